@@ -21,6 +21,7 @@ plugins {
     java
     `maven-publish`
     id("xyz.jpenilla.run-paper") version "2.3.1"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "xyz.overdyn"
@@ -53,6 +54,21 @@ dependencies {
     compileOnly("org.jetbrains:annotations:26.0.2")
     compileOnly("me.clip:placeholderapi:2.11.5")
     compileOnly("com.mojang:authlib:6.0.58")
+
+    jmh("com.github.seeseemelk:MockBukkit-v1.18:2.85.2")
+    jmh("net.kyori:adventure-text-minimessage:4.24.0")
+    jmh("org.jetbrains:annotations:26.0.2")
+    jmh("me.clip:placeholderapi:2.11.5")
+    jmh("com.mojang:authlib:6.0.58")
+}
+
+jmh {
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
+    profilers.add("gc")
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("reports/jmh/results.json"))
 }
 
 tasks.runServer {
@@ -0,0 +1,47 @@
+package xyz.overdyn.dyngui.benchmark;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import org.jetbrains.annotations.NotNull;
+import xyz.overdyn.dyngui.DynGui;
+import xyz.overdyn.dyngui.DynGuiBootstrap;
+
+/**
+ * Stubbed Bukkit server shared by all benchmarks of one fork.
+ *
+ * <p>Starts MockBukkit, bootstraps DynGui against a mock plugin and provides a single
+ * online player to render and open GUIs for.</p>
+ */
+final class BenchmarkEnvironment {
+
+    private static ServerMock server;
+    private static PlayerMock player;
+
+    private BenchmarkEnvironment() {}
+
+    /**
+     * Starts the environment if it is not running yet.
+     *
+     * @return the benchmark viewer
+     */
+    static synchronized @NotNull PlayerMock start() {
+        if (server == null) {
+            server = MockBukkit.mock();
+            DynGuiBootstrap.init(MockBukkit.createMockPlugin());
+            player = server.addPlayer();
+        }
+        return player;
+    }
+
+    /**
+     * Disposes DynGui and stops the mock server.
+     */
+    static synchronized void stop() {
+        if (server == null) return;
+        DynGui.getInstance().dispose();
+        MockBukkit.unmock();
+        server = null;
+        player = null;
+    }
+}
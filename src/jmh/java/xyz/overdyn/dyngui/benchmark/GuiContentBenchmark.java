@@ -0,0 +1,101 @@
+package xyz.overdyn.dyngui.benchmark;
+
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Material;
+import org.openjdk.jmh.annotations.*;
+import xyz.overdyn.dyngui.abstracts.AbstractGuiContent;
+import xyz.overdyn.dyngui.abstracts.content.ContentSource;
+import xyz.overdyn.dyngui.items.GuiItem;
+import xyz.overdyn.dyngui.manager.SessionManager;
+import xyz.overdyn.dyngui.policy.GuiPolicy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Opening and navigating paginated content, pre-generated versus virtualized.
+ *
+ * <p>The navigated GUI is opened once per trial. Only {@link #open(Opening)} needs a
+ * fresh GUI per invocation, so that setup lives in its own {@link Opening} state.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GuiContentBenchmark {
+
+    private static final int[] CONTENT_SLOTS = IntStream.range(0, 45).toArray();
+
+    @Param({"100", "1000", "10000"})
+    public int entries;
+
+    @Param({"false", "true"})
+    public boolean virtualized;
+
+    private PlayerMock player;
+    private List<GuiItem> content;
+
+    /** GUI opened once, used for page navigation. */
+    private AbstractGuiContent navigated;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        player = BenchmarkEnvironment.start();
+
+        content = new ArrayList<>(entries);
+        for (int i = 0; i < entries; i++) {
+            content.add(new GuiItem(Material.PAPER).name(Component.text("Entry " + i)));
+        }
+
+        navigated = createGui();
+        navigated.open(player);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkEnvironment.stop();
+    }
+
+    /**
+     * Fresh, unopened GUI per invocation of {@link #open(Opening)}.
+     */
+    @State(Scope.Benchmark)
+    public static class Opening {
+
+        private PlayerMock player;
+        private AbstractGuiContent gui;
+
+        @Setup(Level.Invocation)
+        public void prepare(GuiContentBenchmark benchmark) {
+            player = benchmark.player;
+            player.closeInventory();
+            SessionManager.clear();
+            gui = benchmark.createGui();
+        }
+    }
+
+    @Benchmark
+    public AbstractGuiContent open(Opening opening) {
+        opening.gui.open(opening.player);
+        return opening.gui;
+    }
+
+    @Benchmark
+    public int nextPage() {
+        navigated.openPage((navigated.currentPage() + 1) % navigated.pages());
+        return navigated.currentPage();
+    }
+
+    private AbstractGuiContent createGui() {
+        var gui = new AbstractGuiContent(Component.text("Benchmark"), GuiPolicy.Factories.MEDIUM) {};
+        gui.setAllowedSlots(CONTENT_SLOTS);
+        if (virtualized) {
+            gui.setContentSource(ContentSource.of(content));
+        } else {
+            content.forEach(gui::addItemToContent);
+        }
+        return gui;
+    }
+}
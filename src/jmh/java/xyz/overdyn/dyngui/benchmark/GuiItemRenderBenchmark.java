@@ -0,0 +1,67 @@
+package xyz.overdyn.dyngui.benchmark;
+
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.openjdk.jmh.annotations.*;
+import xyz.overdyn.dyngui.items.GuiItem;
+import xyz.overdyn.dyngui.placeholder.Placeholder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rendering of a typical stat item: placeholder name and five lore lines.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GuiItemRenderBenchmark {
+
+    private PlayerMock player;
+    private GuiItem placeholderItem;
+    private GuiItem plainItem;
+
+    @Setup
+    public void setUp() {
+        player = BenchmarkEnvironment.start();
+
+        var engine = Placeholder.of();
+        engine.register("%player%", ctx -> "Benchmark");
+        engine.register("%kills%", ctx -> "1337");
+        engine.register("%deaths%", ctx -> "42");
+        engine.register("%rank%", ctx -> "Diamond");
+
+        List<Component> lore = new ArrayList<>();
+        lore.add(Component.text("Kills: %kills%"));
+        lore.add(Component.text("Deaths: %deaths%"));
+        lore.add(Component.text("Rank: %rank%"));
+        lore.add(Component.empty());
+        lore.add(Component.text("Click to open"));
+
+        placeholderItem = new GuiItem(Material.DIAMOND_SWORD)
+                .name(Component.text("Stats of %player%"))
+                .lore(lore)
+                .placeholderEngine(engine);
+        plainItem = new GuiItem(Material.DIAMOND_SWORD)
+                .name(Component.text("Stats"))
+                .lore(lore);
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkEnvironment.stop();
+    }
+
+    @Benchmark
+    public ItemStack renderWithPlaceholders() {
+        return placeholderItem.render(player);
+    }
+
+    @Benchmark
+    public ItemStack renderPlain() {
+        return plainItem.render(player);
+    }
+}
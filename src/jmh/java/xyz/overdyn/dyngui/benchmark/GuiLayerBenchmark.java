@@ -0,0 +1,71 @@
+package xyz.overdyn.dyngui.benchmark;
+
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Material;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import xyz.overdyn.dyngui.abstracts.AbstractGuiLayer;
+import xyz.overdyn.dyngui.items.GuiItem;
+import xyz.overdyn.dyngui.placeholder.Placeholder;
+import xyz.overdyn.dyngui.policy.GuiPolicy;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Slot lookup, registration and full refresh of a 54-slot layer with 45 items.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GuiLayerBenchmark {
+
+    private static final int ITEMS = 45;
+
+    private PlayerMock player;
+    private AbstractGuiLayer layer;
+    private GuiItem[] items;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        player = BenchmarkEnvironment.start();
+
+        var engine = Placeholder.of();
+        engine.register("%index%", ctx -> "7");
+
+        layer = new AbstractGuiLayer(Component.text("Benchmark"), GuiPolicy.Factories.MEDIUM) {};
+        items = new GuiItem[ITEMS];
+        for (int slot = 0; slot < ITEMS; slot++) {
+            items[slot] = new GuiItem(Material.PAPER)
+                    .name(Component.text("Item %index%"))
+                    .placeholderEngine(engine)
+                    .setUpdate(true)
+                    .addSlot(slot);
+            layer.registerItem(items[slot]);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkEnvironment.stop();
+    }
+
+    @Benchmark
+    public void getItem(Blackhole blackhole) {
+        for (int slot = 0; slot < ITEMS; slot++) {
+            blackhole.consume(layer.getItem(slot));
+        }
+    }
+
+    @Benchmark
+    public void registerItem() {
+        layer.registerItem(items[cursor]);
+        cursor = (cursor + 1) % ITEMS;
+    }
+
+    @Benchmark
+    public void updateAll() {
+        layer.updateAll(player);
+    }
+}
@@ -0,0 +1,80 @@
+package xyz.overdyn.dyngui.benchmark;
+
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.persistence.PersistentDataType;
+import org.openjdk.jmh.annotations.*;
+import xyz.overdyn.dyngui.dupe.ItemMarker;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Marker checks as performed by the dupe protection on every pickup, drop and inventory scan.
+ *
+ * <p>Run with the {@code gc} profiler (enabled in the build) and compare
+ * {@code gc.alloc.rate.norm} of {@link #isMarkedPlain()} against
+ * {@link #isMarkedPlainMetaCopy()}, which reproduces the former meta-copying check.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ItemMarkerBenchmark {
+
+    private ItemStack marked;
+    private ItemStack unmarked;
+    private ItemStack plain;
+    private ItemStack[] inventory;
+    private NamespacedKey key;
+
+    @Setup
+    public void setUp() {
+        BenchmarkEnvironment.start();
+
+        var named = new ItemStack(Material.DIAMOND);
+        var meta = named.getItemMeta();
+        meta.setCustomModelData(1);
+        named.setItemMeta(meta);
+
+        marked = ItemMarker.mark(named);
+        unmarked = named;
+        plain = new ItemStack(Material.COBBLESTONE, 64);
+        key = ItemMarker.getKey();
+
+        inventory = new ItemStack[36];
+        for (int slot = 0; slot < inventory.length; slot++) {
+            inventory[slot] = slot % 9 == 0 ? unmarked.clone() : new ItemStack(Material.WHEAT, 1 + slot);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkEnvironment.stop();
+    }
+
+    @Benchmark
+    public boolean isMarkedMarked() {
+        return ItemMarker.isMarked(marked);
+    }
+
+    @Benchmark
+    public boolean isMarkedUnmarked() {
+        return ItemMarker.isMarked(unmarked);
+    }
+
+    @Benchmark
+    public boolean isMarkedPlain() {
+        return ItemMarker.isMarked(plain);
+    }
+
+    @Benchmark
+    public boolean isMarkedPlainMetaCopy() {
+        var meta = plain.getItemMeta();
+        return meta != null && meta.getPersistentDataContainer().has(key, PersistentDataType.BYTE);
+    }
+
+    @Benchmark
+    public boolean containsMarkedInventory() {
+        return ItemMarker.containsMarked(inventory);
+    }
+}
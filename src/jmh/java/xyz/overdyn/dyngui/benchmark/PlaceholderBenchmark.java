@@ -0,0 +1,65 @@
+package xyz.overdyn.dyngui.benchmark;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.openjdk.jmh.annotations.*;
+import xyz.overdyn.dyngui.placeholder.Placeholder;
+import xyz.overdyn.dyngui.placeholder.context.PlaceholderContext;
+import xyz.overdyn.dyngui.placeholder.context.PlaceholderContextImpl;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Placeholder resolution for a stat-style line referencing five of the registered placeholders.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PlaceholderBenchmark {
+
+    @Param({"5", "25", "100"})
+    public int placeholders;
+
+    private Placeholder engine;
+    private PlaceholderContext context;
+    private String text;
+    private Component component;
+
+    @Setup
+    public void setUp() {
+        var player = BenchmarkEnvironment.start();
+
+        engine = Placeholder.of();
+        for (int i = 0; i < placeholders; i++) {
+            int value = i * 31;
+            engine.register("%stat_" + i + "%", ctx -> Integer.toString(value));
+        }
+
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 5; i++) {
+            builder.append("Stat ").append(i).append(": %stat_").append(i * placeholders / 5).append("% ");
+        }
+        text = builder.toString();
+        component = Component.text()
+                .append(Component.text(text))
+                .append(Component.text(" | %stat_0%", NamedTextColor.GRAY))
+                .build();
+        context = new PlaceholderContextImpl(player, Map.of());
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkEnvironment.stop();
+    }
+
+    @Benchmark
+    public String processString() {
+        return engine.processString(text, context);
+    }
+
+    @Benchmark
+    public Component process() {
+        return engine.process(component, context);
+    }
+}
@@ -2,7 +2,12 @@ package xyz.overdyn.dyngui;
 
 import org.bukkit.plugin.java.JavaPlugin;
 import org.jetbrains.annotations.NotNull;
+import xyz.overdyn.dyngui.dupe.MarkedItemSweeper;
 import xyz.overdyn.dyngui.scheduler.TaskScheduler;
+import xyz.overdyn.dyngui.scheduler.TickWheel;
+import xyz.overdyn.dyngui.scheduler.UpdateCoordinator;
+
+import java.util.concurrent.Executor;
 
 public interface DynGui {
 
@@ -10,6 +15,26 @@ public interface DynGui {
 
     TaskScheduler createTaskScheduler();
 
+    /**
+     * Returns the plugin-wide timing wheel that backs every {@link TaskScheduler}.
+     */
+    @NotNull TickWheel getTickWheel();
+
+    /**
+     * Returns the coordinator that drives auto-updating GUIs within a per-tick budget.
+     */
+    @NotNull UpdateCoordinator getUpdateCoordinator();
+
+    /**
+     * Returns the worker pool used for off-main-thread item rendering.
+     */
+    @NotNull Executor getRenderExecutor();
+
+    /**
+     * Returns the background sweeper for leaked GUI items. It is not started by default.
+     */
+    @NotNull MarkedItemSweeper getSweeper();
+
     void dispose();
 
     boolean isSupportedPlaceholder();
@@ -4,11 +4,21 @@ import lombok.Getter;
 import org.bukkit.Bukkit;
 import org.bukkit.event.HandlerList;
 import org.bukkit.plugin.java.JavaPlugin;
+import xyz.overdyn.dyngui.cache.SkullProfileService;
 import xyz.overdyn.dyngui.dupe.ItemMarker;
+import xyz.overdyn.dyngui.dupe.MarkedItemSweeper;
 import xyz.overdyn.dyngui.listener.GuiListener;
 import xyz.overdyn.dyngui.manager.SessionManager;
 import xyz.overdyn.dyngui.scheduler.TaskScheduler;
 import xyz.overdyn.dyngui.scheduler.TaskSchedulerImpl;
+import xyz.overdyn.dyngui.scheduler.TickEndQueue;
+import xyz.overdyn.dyngui.scheduler.TickWheel;
+import xyz.overdyn.dyngui.scheduler.UpdateCoordinator;
+import xyz.overdyn.dyngui.tools.NmsAccess;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class DynGuiBootstrap implements DynGui {
 
@@ -16,17 +26,41 @@ public class DynGuiBootstrap implements DynGui {
     private final JavaPlugin plugin;
     @Getter
     private final boolean supportedPlaceholder;
+    @Getter
+    private final TickWheel tickWheel;
+    @Getter
+    private final UpdateCoordinator updateCoordinator;
+    @Getter
+    private final ExecutorService renderExecutor;
+    @Getter
+    private final MarkedItemSweeper sweeper;
     private final GuiListener listener;
 
     private DynGuiBootstrap(JavaPlugin plugin) {
         this.plugin = plugin;
+        this.tickWheel = new TickWheel(plugin);
+        this.tickWheel.start();
+        this.updateCoordinator = new UpdateCoordinator(plugin, tickWheel);
+        this.renderExecutor = createRenderExecutor();
+        this.sweeper = new MarkedItemSweeper(tickWheel);
         this.listener = new GuiListener();
         Bukkit.getPluginManager().registerEvents(listener, plugin);
         ItemMarker.init(plugin);
+        NmsAccess.init();
         this.supportedPlaceholder = plugin.getServer().getPluginManager().getPlugin("PlaceholderAPI") != null;
 
     }
 
+    private static ExecutorService createRenderExecutor() {
+        int threads = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+        AtomicInteger counter = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "DynGui-Render-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
     public static void init(JavaPlugin javaPlugin) {
         DynGui.init(new DynGuiBootstrap(javaPlugin));
     }
@@ -34,6 +68,12 @@ public class DynGuiBootstrap implements DynGui {
     public void dispose() {
         HandlerList.unregisterAll(listener);
         SessionManager.dispose();
+        sweeper.stop();
+        updateCoordinator.shutdown();
+        TickEndQueue.clear();
+        tickWheel.shutdown();
+        renderExecutor.shutdownNow();
+        SkullProfileService.disablePersistence();
         DynGui.Holder.INSTANCE = null;
     }
 
@@ -9,6 +9,7 @@ import org.bukkit.event.inventory.InventoryCloseEvent;
 import org.bukkit.event.inventory.InventoryType;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.InventoryHolder;
+import org.bukkit.scheduler.BukkitTask;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import xyz.overdyn.dyngui.DynGui;
@@ -16,9 +17,17 @@ import xyz.overdyn.dyngui.manager.SessionManager;
 import xyz.overdyn.dyngui.policy.GuiPolicy;
 import xyz.overdyn.dyngui.policy.sections.InteractionPolicy;
 import xyz.overdyn.dyngui.scheduler.TaskScheduler;
+import xyz.overdyn.dyngui.tools.InventoryContentSender;
 import xyz.overdyn.dyngui.tools.InventoryTitleUpdater;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
 
 /**
  * Base abstract GUI class.
@@ -34,10 +43,17 @@ import java.util.Objects;
  * <ul>
  *     <li>One {@code AbstractGui} instance is intended for one logical GUI container</li>
  *     <li>One GUI instance may be opened by only one player simultaneously</li>
- *     <li>Reusing the same instance for multiple players is explicitly forbidden</li>
+ *     <li>Reusing the same instance for multiple players is explicitly forbidden,
+ *     unless the GUI is {@linkplain #setShared(boolean) shared}</li>
  * </ul>
  *
  * <p>
+ * A shared GUI keeps one inventory for any number of viewers. The first viewer
+ * still open is the {@linkplain #getViewer() primary viewer}, used as render
+ * context for the shared contents; {@link #getViewers()} lists all of them.
+ * </p>
+ *
+ * <p>
  * The class is responsible for:
  * </p>
  * <ul>
@@ -102,6 +118,51 @@ public abstract class AbstractGui implements InventoryHolder {
      */
     private @Nullable Player viewer;
 
+    /**
+     * Whether several players may view this GUI at once.
+     */
+    private boolean shared;
+
+    /**
+     * All viewers of a shared GUI in opening order, {@code null} unless shared.
+     */
+    private @Nullable Set<Player> sharedViewers;
+
+    /**
+     * Default minimum number of ticks between two animated title packets.
+     */
+    private static final int DEFAULT_TITLE_INTERVAL = 2;
+
+    /**
+     * Running title animation, cancelled with the other scheduled tasks on close.
+     */
+    private @Nullable BukkitTask titleAnimation;
+
+    /**
+     * Whether {@link #rebuildAndReopen()} is in progress.
+     */
+    private boolean rebuilding;
+
+    /**
+     * Trailing send of a frame that arrived within the title interval.
+     */
+    private @Nullable BukkitTask pendingTitle;
+
+    /**
+     * Title last sent to the viewer, used to skip identical frames.
+     */
+    private @Nullable Component sentTitle;
+
+    /**
+     * Wheel tick of the last animated title packet.
+     */
+    private long sentTitleTick = Long.MIN_VALUE;
+
+    /**
+     * Minimum number of ticks between two animated title packets.
+     */
+    private int titleInterval = DEFAULT_TITLE_INTERVAL;
+
     /**
      * Creates a chest-based GUI with default size (54).
      *
@@ -170,32 +231,52 @@ public abstract class AbstractGui implements InventoryHolder {
     }
 
     /**
-     * Rebuilds the inventory and reopens it for the current viewer, if present.
+     * Rebuilds the inventory and reopens it for the current viewers, if present.
      *
      * <p>
      * Intended exclusively for structural changes such as inventory size
-     * or type modification.
+     * or type modification. Every online viewer of a shared GUI is reopened,
+     * the former primary viewer first. Scheduled tasks end with the close, while
+     * state meant to outlive it can check {@link #isRebuilding()}.
      * </p>
      */
     protected final void rebuildAndReopen() {
-        if (viewer == null || !viewer.isOnline()) {
+        List<Player> current = new ArrayList<>();
+        if (viewer != null && viewer.isOnline()) current.add(viewer);
+        for (Player player : getViewers()) {
+            if (player != viewer && player.isOnline()) current.add(player);
+        }
+        if (current.isEmpty()) {
             inventory = createInventory();
             return;
         }
 
-        Player current = viewer;
-        close();
+        rebuilding = true;
+        try {
+            close();
+            inventory = createInventory();
+            for (Player player : current) open(player);
+        } finally {
+            rebuilding = false;
+        }
+    }
 
-        inventory = createInventory();
-        open(current);
+    /**
+     * Returns whether {@link #rebuildAndReopen()} is closing and reopening this GUI.
+     *
+     * @return {@code true} while the viewers are being moved to a rebuilt inventory
+     */
+    protected final boolean isRebuilding() {
+        return rebuilding;
     }
 
     /**
      * Opens this GUI for the specified entity.
      *
      * <p>
-     * This GUI instance may only be opened by a single player.
-     * Attempting to open it for another player will result in an exception.
+     * This GUI instance may only be opened by a single player, unless it is
+     * {@linkplain #setShared(boolean) shared}. Attempting to open a non-shared
+     * GUI for another player will result in an exception.
      * </p>
      *
      * @param entity viewer entity (must be a {@link Player})
@@ -210,6 +291,18 @@ public abstract class AbstractGui implements InventoryHolder {
             throw new IllegalArgumentException("GUI can only be opened for Player");
         }
 
+        if (shared) {
+            if (!sharedViewers.add(player)) return;
+            if (viewer == null) {
+                this.viewer = player;
+                this.sentTitle = title;
+            }
+            player.openInventory(inventory);
+            SessionManager.register(player, this);
+            onViewerAdded(player);
+            return;
+        }
+
         if (viewer != null && viewer != player) {
             throw new IllegalStateException(
                     "This GUI instance is already bound to another player: " + viewer.getName()
@@ -221,18 +314,88 @@ public abstract class AbstractGui implements InventoryHolder {
         }
 
         this.viewer = player;
+        this.sentTitle = title;
         player.openInventory(inventory);
         SessionManager.register(player, this);
     }
 
     /**
-     * Closes this GUI for the current viewer, if any.
+     * Closes this GUI for the current viewer, if any; a shared GUI is closed for every viewer.
      */
     public final void close() {
+        if (shared) {
+            for (Player player : List.copyOf(sharedViewers)) {
+                player.closeInventory(InventoryCloseEvent.Reason.PLUGIN);
+            }
+            return;
+        }
         if (viewer == null) return;
         viewer.closeInventory(InventoryCloseEvent.Reason.PLUGIN);
     }
 
+    /**
+     * Enables or disables shared mode, in which any number of players view this GUI.
+     *
+     * <p>Shared contents are rendered once, for the primary viewer. Items that
+     * {@linkplain xyz.overdyn.dyngui.items.GuiItem#isViewerSpecific() depend on the viewer}
+     * are additionally shown per viewer by layers that support it. Can only be changed
+     * while nobody views the GUI.</p>
+     *
+     * @param shared {@code true} to allow several viewers
+     * @throws IllegalStateException if the GUI is currently viewed
+     */
+    public final void setShared(boolean shared) {
+        if (viewer != null) {
+            throw new IllegalStateException("Shared mode can only be changed while the GUI is closed");
+        }
+        this.shared = shared;
+        this.sharedViewers = shared ? new LinkedHashSet<>() : null;
+    }
+
+    /**
+     * Returns whether several players may view this GUI at once.
+     *
+     * @return {@code true} if shared
+     */
+    public final boolean isShared() {
+        return shared;
+    }
+
+    /**
+     * Returns every current viewer, in opening order.
+     *
+     * @return unmodifiable view of the viewers; at most one element unless shared
+     */
+    public final @NotNull Collection<Player> getViewers() {
+        if (shared) return Collections.unmodifiableSet(sharedViewers);
+        return viewer != null ? List.of(viewer) : List.of();
+    }
+
+    /**
+     * Called after a player joined an already open shared GUI, or opened it first.
+     *
+     * @param player new viewer
+     */
+    protected void onViewerAdded(@NotNull Player player) {
+    }
+
+    /**
+     * Called after a player left a shared GUI that other players still view.
+     * {@link #getViewer()} already reflects a possibly changed primary viewer.
+     *
+     * @param player former viewer
+     */
+    protected void onViewerRemoved(@NotNull Player player) {
+    }
+
+    /**
+     * Called after the full container contents were pushed to a viewer.
+     *
+     * @param player viewer that received the contents
+     */
+    protected void onContentsSent(@NotNull Player player) {
+    }
+
     /**
      * Closes this GUI for the specified entity.
      *
@@ -253,21 +416,44 @@ public abstract class AbstractGui implements InventoryHolder {
      * @param player player who closed the GUI
      */
     public final void handleClose(@NotNull Player player) {
+        if (shared) {
+            if (!sharedViewers.remove(player)) return;
+            if (sharedViewers.isEmpty()) {
+                closeSession(player);
+                return;
+            }
+            if (player == viewer) viewer = sharedViewers.iterator().next();
+            releaseViewer(player);
+            onViewerRemoved(player);
+            return;
+        }
+
         if (!Objects.equals(viewer, player)) return;
+        closeSession(player);
+    }
 
+    /**
+     * Ends the session of the last viewer and cancels every scheduled task.
+     */
+    private void closeSession(@NotNull Player player) {
+        scheduler.cancelAll();
+        titleAnimation = null;
+        pendingTitle = null;
+        viewer = null;
+        releaseViewer(player);
+    }
+
+    /**
+     * Restores the player's inventory view if configured and unregisters the session.
+     */
+    private void releaseViewer(@NotNull Player player) {
         if (policy.interaction().isEnabled(
                 InteractionPolicy.InteractionType.UPDATE_AFTER_CLOSE
         )) {
-            Bukkit.getScheduler().runTaskLater(
-                    DynGui.getInstance().getPlugin(),
-                    player::updateInventory,
-                    1
-            );
+            DynGui.getInstance().getTickWheel().schedule(player::updateInventory, 1);
         }
 
-        scheduler.cancelAll();
-        viewer = null;
-        SessionManager.unregister(player);
+        SessionManager.unregister(player, this);
     }
 
     /**
@@ -299,8 +485,103 @@ public abstract class AbstractGui implements InventoryHolder {
 
         if (!isOpen()) return false;
 
-        boolean result = InventoryTitleUpdater.updateTitle(viewer, title);
-        viewer.updateInventory();
+        return sendTitle(newTitle);
+    }
+
+    /**
+     * Animates the title by cycling through the given frames.
+     *
+     * @param frames frames shown in order, looping
+     * @param period ticks between two frames
+     * @see #animateTitle(Supplier, long)
+     */
+    public final void animateTitle(@NotNull List<Component> frames, long period) {
+        if (frames.isEmpty()) throw new IllegalArgumentException("frames must not be empty");
+
+        List<Component> sequence = List.copyOf(frames);
+        int[] index = {0};
+        animateTitle(() -> sequence.get(index[0]++ % sequence.size()), period);
+    }
+
+    /**
+     * Animates the title with frames produced by a supplier.
+     *
+     * <p>The supplier is polled every {@code period} ticks while the GUI is open. Frames equal
+     * to the title last sent are skipped, and at most one title packet is sent every
+     * {@linkplain #setTitleInterval(int) title interval}. A frame produced within the
+     * interval is sent once the interval ends, and frames produced until then replace it,
+     * so only the newest one is shown and the client always ends on {@link #getTitle()}.
+     * The animation replaces any running one and stops when the GUI is closed.</p>
+     *
+     * @param frames frame supplier, called on the main thread
+     * @param period ticks between two polls
+     */
+    public final void animateTitle(@NotNull Supplier<Component> frames, long period) {
+        stopTitleAnimation();
+        titleAnimation = scheduler.runTask(() -> {
+            if (!isOpen()) return;
+
+            Component frame = frames.get();
+            if (frame == null) return;
+            this.title = frame;
+            showAnimatedTitle();
+        }, 0L, Math.max(1L, period));
+    }
+
+    /**
+     * Sends the current title if the title interval allows it, otherwise schedules one
+     * trailing send for the end of the interval. That send picks up whatever the title is
+     * by then.
+     */
+    private void showAnimatedTitle() {
+        if (pendingTitle != null || title.equals(sentTitle)) return;
+
+        long tick = DynGui.getInstance().getTickWheel().currentTick();
+        long wait = sentTitleTick == Long.MIN_VALUE ? 0L : sentTitleTick + titleInterval - tick;
+        if (wait > 0) {
+            pendingTitle = scheduler.runTask(() -> {
+                pendingTitle = null;
+                if (isOpen()) showAnimatedTitle();
+            }, wait);
+            return;
+        }
+
+        sentTitleTick = tick;
+        sendTitle(title);
+    }
+
+    /**
+     * Stops the running title animation. A frame still waiting for the title interval is
+     * sent when the interval ends, so the viewer is left on {@link #getTitle()}.
+     */
+    public final void stopTitleAnimation() {
+        if (titleAnimation == null) return;
+        scheduler.cancel(titleAnimation);
+        titleAnimation = null;
+    }
+
+    /**
+     * Sets the minimum number of ticks between two animated title packets.
+     *
+     * @param ticks minimum interval, at least {@code 1}
+     */
+    public final void setTitleInterval(int ticks) {
+        this.titleInterval = Math.max(1, ticks);
+    }
+
+    /**
+     * Sends a title to every viewer and re-pushes the container contents,
+     * which the client drops when a screen is reopened.
+     */
+    private boolean sendTitle(@NotNull Component newTitle) {
+        boolean result = false;
+        for (Player player : getViewers()) {
+            if (player.getOpenInventory().getTopInventory() != inventory) continue;
+            result |= InventoryTitleUpdater.updateTitle(player, newTitle);
+            InventoryContentSender.sendContents(player);
+            onContentsSent(player);
+        }
+        if (result) sentTitle = newTitle;
         return result;
     }
 
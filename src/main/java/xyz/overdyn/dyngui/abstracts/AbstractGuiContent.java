@@ -4,6 +4,8 @@ import net.kyori.adventure.text.Component;
 import org.bukkit.entity.Player;
 import org.bukkit.event.inventory.InventoryType;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import xyz.overdyn.dyngui.abstracts.content.ContentSource;
 import xyz.overdyn.dyngui.items.GuiItem;
 import xyz.overdyn.dyngui.policy.GuiPolicy;
 
@@ -24,6 +26,10 @@ import java.util.List;
  *
  * <p>To use this, populate content via {@link #addItemToContent(GuiItem)},
  * specify allowed slot via {@link #setAllowedSlots(int...)}, and call {@link #open(Player)}.</p>
+ *
+ * <p>For large catalogues, set a {@link ContentSource} via {@link #setContentSource(ContentSource)}
+ * instead. In this virtualized mode no pages are pre-generated: only the visible page is
+ * requested from the source and materialized, so opening and navigating cost O(page size).</p>
  */
 public abstract class AbstractGuiContent extends AbstractGuiPaginator {
 
@@ -37,6 +43,11 @@ public abstract class AbstractGuiContent extends AbstractGuiPaginator {
      */
     private int[] allowedSlots;
 
+    /**
+     * Data source for virtualized mode, or {@code null} when content is held in {@link #content}.
+     */
+    private @Nullable ContentSource contentSource;
+
     /**
      * Constructs a paginated GUI with the given component title and policy.
      *
@@ -89,6 +100,76 @@ public abstract class AbstractGuiContent extends AbstractGuiPaginator {
         this.allowedSlots = slots;
     }
 
+    /**
+     * Switches this GUI to virtualized mode backed by the given source.
+     *
+     * <p>Items added via {@link #addItemToContent(GuiItem)} are ignored while a source
+     * is set. Pass {@code null} to return to the pre-generated mode.</p>
+     *
+     * @param source content source, or {@code null}
+     */
+    public void setContentSource(@Nullable ContentSource source) {
+        this.contentSource = source;
+    }
+
+    /**
+     * Returns the source used in virtualized mode.
+     *
+     * @return content source, or {@code null} if not virtualized
+     */
+    public @Nullable ContentSource getContentSource() {
+        return contentSource;
+    }
+
+    /**
+     * Checks whether pages are materialized on demand from a {@link ContentSource}.
+     *
+     * @return {@code true} in virtualized mode
+     */
+    public boolean isVirtualized() {
+        return contentSource != null;
+    }
+
+    /**
+     * Re-materializes the active page, e.g. after the content source changed.
+     *
+     * <p>If the active page no longer exists the last remaining page is opened.</p>
+     */
+    public void refreshPage() {
+        int count = pageCount();
+        if (count == 0) {
+            closePage();
+            everyPageLogic();
+            return;
+        }
+        openPage(Math.max(0, Math.min(currentPage(), count - 1)));
+    }
+
+    @Override
+    protected int pageCount() {
+        if (contentSource == null) return super.pageCount();
+
+        int perPage = allowedSlots.length;
+        return perPage == 0 ? 0 : (contentSource.size() + perPage - 1) / perPage;
+    }
+
+    @Override
+    protected @NotNull List<GuiItem> pageItems(int pageIndex) {
+        if (contentSource == null) return super.pageItems(pageIndex);
+
+        int perPage = allowedSlots.length;
+        List<GuiItem> items = contentSource.range(pageIndex * perPage, perPage);
+        int count = Math.min(items.size(), perPage);
+
+        List<GuiItem> page = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            var item = items.get(i);
+            item.setSlots(Collections.singleton(allowedSlots[i]));
+            page.add(item);
+        }
+        return page;
+    }
+
     /**
      * Opens a specific page and runs post-page logic.
      *
@@ -103,10 +184,23 @@ public abstract class AbstractGuiContent extends AbstractGuiPaginator {
     /**
      * Removes all items from content (and visible pages) that match the given key.
      *
+     * <p>In virtualized mode the source owns the content: remove the entries from the
+     * source first; this method then counts the matching visible items and refreshes
+     * the active page.</p>
+     *
      * @param key unique key to remove by
      * @return number of items removed
      */
     public int removeContentByKey(@NotNull String key) {
+        if (contentSource != null) {
+            int removed = 0;
+            for (GuiItem item : visibleItems()) {
+                if (key.equals(item.key())) removed++;
+            }
+            if (removed > 0) refreshPage();
+            return removed;
+        }
+
         int page = currentPage();
 
         List<GuiItem> toRemove = new ArrayList<>();
@@ -180,11 +274,12 @@ public abstract class AbstractGuiContent extends AbstractGuiPaginator {
 
     /**
      * Regenerates pages and opens the GUI for the given player.
+     * In virtualized mode only the first page is materialized.
      *
      * @param player player to open for
      */
     public final void open(@NotNull Player player) {
-        generatePages();
+        if (contentSource == null) generatePages();
         super.open(player);
         openPage(0);
     }
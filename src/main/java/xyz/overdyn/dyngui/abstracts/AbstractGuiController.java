@@ -1,11 +1,14 @@
 package xyz.overdyn.dyngui.abstracts;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import net.kyori.adventure.text.Component;
 import org.bukkit.entity.Player;
 import org.bukkit.event.Event;
 import org.bukkit.event.inventory.*;
 import org.jetbrains.annotations.NotNull;
+import xyz.overdyn.dyngui.abstracts.handler.GuiHandler;
+import xyz.overdyn.dyngui.abstracts.handler.HandlerTemplate;
 import xyz.overdyn.dyngui.policy.GuiPolicy;
 
 import java.util.*;
@@ -34,35 +37,80 @@ import java.util.function.Consumer;
  * setting up handlers and GUI behavior without manually handling low-level
  * event registration.
  * </p>
+ *
+ * <p>
+ * Slot handlers live in an array indexed by raw slot, so a click never boxes
+ * its slot. Event handlers are flattened into one chain per concrete event
+ * class on first dispatch: a handler registered for a supertype, such as
+ * {@link InventoryClickEvent}, also receives Paper's subclasses of it. Chains
+ * are cached and rebuilt after the next registration.
+ * </p>
+ *
+ * <p>
+ * Handlers that every instance of a class needs should be declared as
+ * {@link GuiHandler} methods. They are compiled once per class into a shared
+ * {@link HandlerTemplate} and run before the handlers registered on the
+ * instance, whose maps are only allocated on the first {@link #onEvent} call.
+ * </p>
  */
 @Getter
 public abstract class AbstractGuiController extends AbstractGui {
 
+    /** Number of raw slots occupied by the player inventory below the top inventory. */
+    private static final int PLAYER_INVENTORY_SLOTS = 36;
+
+    @SuppressWarnings("unchecked")
+    private static final Consumer<InventoryClickEvent>[] NO_SLOT_HANDLERS = new Consumer[0];
+
+    @SuppressWarnings("unchecked")
+    private static final Consumer<Event>[] EMPTY_CHAIN = new Consumer[0];
+
     /**
      * Custom event handlers for this GUI instance.
      *
      * <p>
-     * Maps an event class to a list of consumer callbacks.
-     * Used internally to dispatch events to registered listeners.
+     * Maps an event class to a list of consumer callbacks, in registration order.
+     * Used internally to build the dispatch chains.
      * </p>
      */
-    private final Map<Class<? extends Event>, List<Consumer<? extends Event>>> customHandlers = new HashMap<>();
+    @Getter(AccessLevel.NONE)
+    private Map<Class<? extends Event>, List<Consumer<? extends Event>>> customHandlers;
+
+    /**
+     * Every registration in order, so a flattened chain keeps the order
+     * handlers were added in regardless of which event class they target.
+     */
+    @Getter(AccessLevel.NONE)
+    private List<Registration> registrations;
+
+    /**
+     * Flattened handler chains keyed by concrete event class.
+     *
+     * <p>
+     * Filled lazily on dispatch and cleared whenever a handler is registered.
+     * </p>
+     */
+    @Getter(AccessLevel.NONE)
+    private Map<Class<?>, Consumer<Event>[]> chains;
+
+    /** Handlers declared on this class, shared with every other instance of it. */
+    @Getter(AccessLevel.NONE)
+    private final HandlerTemplate template = HandlerTemplate.of(getClass());
 
     /**
      * Slot-specific click handlers.
      *
      * <p>
-     * The key is the raw slot index (including both top and player inventory slots),
-     * and the value is a {@link Consumer} of {@link InventoryClickEvent} executed
-     * when that slot is clicked.
+     * Indexed by raw slot (top inventory followed by the player inventory).
+     * Sized to cover both on first use and grown if a larger slot is set.
      * </p>
      */
-    private final Map<Integer, Consumer<InventoryClickEvent>> clickHandlersBySlot = new HashMap<>();
+    @Getter(AccessLevel.NONE)
+    private Consumer<InventoryClickEvent>[] slotHandlers = NO_SLOT_HANDLERS;
 
-    {
-        onClick();
-        onClose(event -> handleClose((Player) event.getPlayer()));
-    }
+    /** Number of non-null entries in {@link #slotHandlers}. */
+    @Getter(AccessLevel.NONE)
+    private int slotHandlerCount;
 
     /**
      * Constructs a controller GUI with a default chest size (54) and a specified policy.
@@ -106,14 +154,34 @@ public abstract class AbstractGuiController extends AbstractGui {
      *
      * @param event the Bukkit event to handle
      */
-    @Override @SuppressWarnings("unchecked")
+    @Override
     public final void handleEvent(@NotNull Event event) {
-        List<Consumer<? extends Event>> handlers = customHandlers.get(event.getClass());
-        if (handlers != null) {
-            for (var handler : handlers) {
-                ((Consumer<Event>) handler).accept(event);
+        template.dispatch(this, event);
+        if (registrations == null) return;
+
+        Class<?> type = event.getClass();
+        Consumer<Event>[] chain = chains.get(type);
+        if (chain == null) {
+            chain = resolveChain(type);
+            chains.put(type, chain);
+        }
+        for (Consumer<Event> handler : chain) {
+            handler.accept(event);
+        }
+    }
+
+    /**
+     * Collects every handler whose event class is the given class or one of its supertypes.
+     */
+    @SuppressWarnings("unchecked")
+    private Consumer<Event>[] resolveChain(@NotNull Class<?> type) {
+        List<Consumer<Event>> matched = new ArrayList<>();
+        for (Registration registration : registrations) {
+            if (registration.type().isAssignableFrom(type)) {
+                matched.add(registration.handler());
             }
         }
+        return matched.isEmpty() ? EMPTY_CHAIN : matched.toArray(new Consumer[0]);
     }
 
     /**
@@ -128,37 +196,79 @@ public abstract class AbstractGuiController extends AbstractGui {
      * @param handler    consumer callback invoked when the event occurs
      * @param <T>        event type
      */
+    @SuppressWarnings("unchecked")
     public <T extends Event> void onEvent(Class<T> eventClass, Consumer<T> handler) {
+        if (registrations == null) {
+            customHandlers = new LinkedHashMap<>();
+            registrations = new ArrayList<>();
+            chains = new HashMap<>();
+        }
         customHandlers.computeIfAbsent(eventClass, it -> new ArrayList<>()).add(handler);
+        registrations.add(new Registration(eventClass, (Consumer<Event>) handler));
+        chains.clear();
     }
 
     /**
-     * Initializes the default click dispatcher.
+     * Returns the handlers registered on this instance, keyed by event class.
      *
-     * <p>
-     * This internal method routes {@link InventoryClickEvent}s to their
-     * slot-specific handlers. Can be overridden if more complex click logic
-     * is required, but generally left as is.
-     * </p>
+     * @return unmodifiable view, empty if nothing was registered
      */
-    public final void onClick() {
-        onEvent(InventoryClickEvent.class, event -> {
-            final int slot = event.getRawSlot();
-            final var slotHandler = clickHandlersBySlot.get(slot);
+    public @NotNull Map<Class<? extends Event>, List<Consumer<? extends Event>>> getCustomHandlers() {
+        return customHandlers == null ? Collections.emptyMap() : Collections.unmodifiableMap(customHandlers);
+    }
+
+    /**
+     * Routes {@link InventoryClickEvent}s to their slot-specific handlers.
+     *
+     * @param event click event dispatched to this GUI
+     */
+    @GuiHandler
+    private void dispatchSlotClick(@NotNull InventoryClickEvent event) {
+        final int slot = event.getRawSlot();
+        final var handlers = slotHandlers;
+        if (slot >= 0 && slot < handlers.length) {
+            final var slotHandler = handlers[slot];
             if (slotHandler != null) {
                 slotHandler.accept(event);
             }
-        });
+        }
+    }
+
+    /**
+     * Ends the session when the viewer closes the inventory.
+     *
+     * @param event close event dispatched to this GUI
+     */
+    @GuiHandler
+    private void closeSession(@NotNull InventoryCloseEvent event) {
+        handleClose((Player) event.getPlayer());
+    }
+
+    /**
+     * Formerly registered the slot click dispatcher.
+     *
+     * <p>
+     * Slot dispatch is now part of the class {@link HandlerTemplate} and is always
+     * active, so this method does nothing.
+     * </p>
+     */
+    @Deprecated
+    public final void onClick() {
     }
 
     /**
      * Registers a click handler for a specific slot.
      *
-     * @param rawSlot raw slot index
+     * @param rawSlot raw slot index, must not be negative
      * @param handler click consumer executed on click
      */
     public void setSlotHandler(int rawSlot, @NotNull Consumer<InventoryClickEvent> handler) {
-        clickHandlersBySlot.put(rawSlot, handler);
+        if (rawSlot < 0) {
+            throw new IllegalArgumentException("Raw slot must not be negative: " + rawSlot);
+        }
+        ensureSlotCapacity(rawSlot + 1);
+        if (slotHandlers[rawSlot] == null) slotHandlerCount++;
+        slotHandlers[rawSlot] = handler;
     }
 
     /**
@@ -170,7 +280,7 @@ public abstract class AbstractGuiController extends AbstractGui {
     public void setSlotHandlers(@NotNull Collection<Integer> rawSlots,
                                 @NotNull Consumer<InventoryClickEvent> handler) {
         for (int slot : rawSlots) {
-            clickHandlersBySlot.put(slot, handler);
+            setSlotHandler(slot, handler);
         }
     }
 
@@ -180,7 +290,7 @@ public abstract class AbstractGuiController extends AbstractGui {
      * @param handlers map of slot index -> click consumer
      */
     public void setSlotHandlers(@NotNull Map<Integer, Consumer<InventoryClickEvent>> handlers) {
-        clickHandlersBySlot.putAll(handlers);
+        handlers.forEach(this::setSlotHandler);
     }
 
     /**
@@ -190,7 +300,7 @@ public abstract class AbstractGuiController extends AbstractGui {
      * @return the consumer handler, or null if none is set
      */
     public Consumer<InventoryClickEvent> getSlotHandler(int rawSlot) {
-        return clickHandlersBySlot.get(rawSlot);
+        return rawSlot >= 0 && rawSlot < slotHandlers.length ? slotHandlers[rawSlot] : null;
     }
 
     /**
@@ -199,7 +309,9 @@ public abstract class AbstractGuiController extends AbstractGui {
      * @param rawSlot raw slot index
      */
     public void removeSlotHandler(int rawSlot) {
-        clickHandlersBySlot.remove(rawSlot);
+        if (rawSlot < 0 || rawSlot >= slotHandlers.length || slotHandlers[rawSlot] == null) return;
+        slotHandlers[rawSlot] = null;
+        slotHandlerCount--;
     }
 
     /**
@@ -209,7 +321,7 @@ public abstract class AbstractGuiController extends AbstractGui {
      */
     public void removeSlotHandlers(@NotNull Collection<Integer> rawSlots) {
         for (int slot : rawSlots) {
-            clickHandlersBySlot.remove(slot);
+            removeSlotHandler(slot);
         }
     }
 
@@ -220,7 +332,35 @@ public abstract class AbstractGuiController extends AbstractGui {
      * @return true if a handler is registered, false otherwise
      */
     public boolean hasSlotHandler(int rawSlot) {
-        return clickHandlersBySlot.containsKey(rawSlot);
+        return getSlotHandler(rawSlot) != null;
+    }
+
+    /**
+     * Returns a snapshot of the slot handlers keyed by raw slot.
+     *
+     * <p>
+     * Kept for callers of the former map-based storage; the returned map is
+     * a copy and is not updated afterwards.
+     * </p>
+     *
+     * @return unmodifiable map of raw slot -> click consumer
+     */
+    public @NotNull Map<Integer, Consumer<InventoryClickEvent>> getClickHandlersBySlot() {
+        Map<Integer, Consumer<InventoryClickEvent>> snapshot = new LinkedHashMap<>(slotHandlerCount * 2);
+        for (int slot = 0; slot < slotHandlers.length; slot++) {
+            if (slotHandlers[slot] != null) snapshot.put(slot, slotHandlers[slot]);
+        }
+        return Collections.unmodifiableMap(snapshot);
+    }
+
+    /**
+     * Grows the slot table to hold at least {@code required} entries, and at least
+     * the top inventory plus the player inventory.
+     */
+    private void ensureSlotCapacity(int required) {
+        if (required <= slotHandlers.length) return;
+        int capacity = Math.max(required, getInventory().getSize() + PLAYER_INVENTORY_SLOTS);
+        slotHandlers = Arrays.copyOf(slotHandlers, capacity);
     }
 
     /**
@@ -258,4 +398,10 @@ public abstract class AbstractGuiController extends AbstractGui {
     public void onClick(@NotNull Consumer<InventoryClickEvent> handler) {
         onEvent(InventoryClickEvent.class, handler);
     }
+
+    /**
+     * A handler together with the event class it was registered for.
+     */
+    private record Registration(Class<? extends Event> type, Consumer<Event> handler) {
+    }
 }
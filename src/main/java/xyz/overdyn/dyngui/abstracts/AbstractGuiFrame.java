@@ -1,16 +1,22 @@
 package xyz.overdyn.dyngui.abstracts;
 
 import net.kyori.adventure.text.Component;
+import org.bukkit.event.inventory.InventoryCloseEvent;
 import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.inventory.ItemStack;
 import org.bukkit.scheduler.BukkitTask;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import xyz.overdyn.dyngui.abstracts.handler.GuiHandler;
+import xyz.overdyn.dyngui.abstracts.timeline.Timeline;
 import xyz.overdyn.dyngui.items.GuiItem;
 import xyz.overdyn.dyngui.policy.GuiPolicy;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Abstract GUI Frame.
@@ -21,6 +27,12 @@ import java.util.List;
  * </p>
  *
  * <p>
+ * Built-in animations are compiled into {@link Timeline}s. Every playing timeline of a
+ * frame is advanced by one shared task, and the items it shows are rendered once per
+ * playback, so a step only rebinds slots and writes ready stacks.
+ * </p>
+ *
+ * <p>
  * All tasks are automatically cancelled when GUI closes.
  * </p>
  */
@@ -28,9 +40,11 @@ public abstract class AbstractGuiFrame extends AbstractGuiLayer {
 
     private final List<BukkitTask> tasks = new ArrayList<>();
 
-    {
-        onClose(e -> stopAllFrames());
-    }
+    /** Timelines currently playing, in start order. */
+    private final List<Playback> playbacks = new ArrayList<>();
+
+    /** Single task advancing {@link #playbacks}, {@code null} while nothing plays. */
+    private @Nullable BukkitTask timelineDriver;
 
     /* ========================================================= */
     /* ===================== CONSTRUCTORS ====================== */
@@ -74,6 +88,173 @@ public abstract class AbstractGuiFrame extends AbstractGuiLayer {
     protected final void stopAllFrames() {
         tasks.forEach(BukkitTask::cancel);
         tasks.clear();
+        playbacks.forEach(playback -> playback.done = true);
+        playbacks.clear();
+        timelineDriver = null;
+    }
+
+    /** Stop all frames when the last viewer closes the inventory */
+    @GuiHandler
+    private void stopFramesOnClose(@NotNull InventoryCloseEvent event) {
+        if (getViewer() != null) return;
+        stopAllFrames();
+    }
+
+    /* ========================================================= */
+    /* ======================= TIMELINES ====================== */
+    /* ========================================================= */
+
+    /**
+     * Starts playing a timeline; its tick zero is applied on the next tick.
+     *
+     * <p>Every item of the timeline is cloned and rendered once, for the current viewer.
+     * Each slot a {@link Timeline.Kind#SET} keyframe fills gets its own owner, cloned from
+     * that snapshot, so slots filled by one timeline are registered and unregistered
+     * independently, like items registered slot by slot.</p>
+     *
+     * @param timeline compiled timeline
+     * @return playback handle
+     */
+    protected final Playback play(@NotNull Timeline timeline) {
+        var sources = timeline.items();
+        var items = new GuiItem[sources.size()];
+        var stacks = new ItemStack[sources.size()];
+        for (int i = 0; i < items.length; i++) {
+            items[i] = sources.get(i).clone().clearSlots();
+            stacks[i] = items[i].render(getViewer());
+        }
+
+        var playback = new Playback(timeline, items, stacks);
+        playbacks.add(playback);
+        if (timelineDriver == null) {
+            timelineDriver = scheduler.runTask(this::advanceTimelines, 1, 1);
+            tasks.add(timelineDriver);
+        }
+        return playback;
+    }
+
+    /** Stop all playing timelines, leaving other scheduled tasks running */
+    protected final void stopTimelines() {
+        playbacks.forEach(playback -> playback.done = true);
+        playbacks.clear();
+        stopTimelineDriver();
+    }
+
+    private void advanceTimelines() {
+        if (!isOpen()) {
+            stopAllFrames();
+            return;
+        }
+
+        beginBatch();
+        try {
+            playbacks.removeIf(Playback::advance);
+        } finally {
+            endBatch();
+        }
+
+        if (playbacks.isEmpty()) stopTimelineDriver();
+    }
+
+    private void stopTimelineDriver() {
+        if (timelineDriver == null) return;
+        timelineDriver.cancel();
+        tasks.remove(timelineDriver);
+        timelineDriver = null;
+    }
+
+    /**
+     * Running instance of a {@link Timeline} on this frame.
+     */
+    public final class Playback {
+
+        private final Timeline timeline;
+
+        /** Snapshots of the timeline's items, indexed like {@link Timeline#items()}. */
+        private final GuiItem[] items;
+
+        /** Stacks rendered once from {@link #items}. */
+        private final ItemStack[] stacks;
+
+        /** Owner of the slot filled by each SET keyframe, cloned on first use. */
+        private final Map<Timeline.Keyframe, GuiItem> owners = new HashMap<>();
+        private int elapsed;
+        private int next;
+        private boolean done;
+
+        private Playback(@NotNull Timeline timeline, @NotNull GuiItem[] items, @NotNull ItemStack[] stacks) {
+            this.timeline = timeline;
+            this.items = items;
+            this.stacks = stacks;
+        }
+
+        /**
+         * Returns the ticks played since the start or the last loop restart.
+         *
+         * @return elapsed ticks
+         */
+        public int elapsed() {
+            return elapsed;
+        }
+
+        /**
+         * Returns whether the playback finished or was cancelled.
+         *
+         * @return {@code true} if no further keyframes will be applied
+         */
+        public boolean isDone() {
+            return done;
+        }
+
+        /**
+         * Stops the playback. Slots keep what they currently show.
+         */
+        public void cancel() {
+            if (done) return;
+            done = true;
+            playbacks.remove(this);
+            if (playbacks.isEmpty()) stopTimelineDriver();
+        }
+
+        /**
+         * Applies the keyframes of the current tick.
+         *
+         * @return {@code true} once the playback is finished
+         */
+        private boolean advance() {
+            if (done) return true;
+
+            if (next < timeline.frameCount() && timeline.frameTick(next) == elapsed) {
+                for (var keyframe : timeline.frame(next)) apply(keyframe);
+                next++;
+            }
+            elapsed++;
+
+            int loop = timeline.loopLength();
+            if (loop > 0) {
+                if (elapsed >= loop) {
+                    elapsed = 0;
+                    next = 0;
+                }
+                return false;
+            }
+
+            done = next >= timeline.frameCount();
+            return done;
+        }
+
+        private void apply(@NotNull Timeline.Keyframe keyframe) {
+            switch (keyframe.kind()) {
+                case SET -> placeRendered(owner(keyframe), keyframe.slot(), stacks[keyframe.item()]);
+                case CLEAR -> clearSlots(List.of(keyframe.slot()));
+                case MOVE -> relocate(keyframe.slot(), keyframe.target());
+                case SWAP -> exchange(keyframe.slot(), keyframe.target());
+            }
+        }
+
+        private @NotNull GuiItem owner(@NotNull Timeline.Keyframe keyframe) {
+            return owners.computeIfAbsent(keyframe, key -> items[key.item()].clone().clearSlots());
+        }
     }
 
     /* ========================================================= */
@@ -92,60 +273,76 @@ public abstract class AbstractGuiFrame extends AbstractGuiLayer {
     protected final void clearSlots(Collection<Integer> slots) {
         slots.forEach(slot -> {
             unregisterSlotOnly(slot);
-            getInventory().clear(slot);
+            clearSlot(slot);
         });
     }
 
     /** Move single GuiItem from one slot to another */
     protected final void moveItem(int from, int to) {
-        GuiItem item = getItem(from).clone();
-        if (item == null) return;
-
-        unregisterSlotOnly(from);
-        unregisterItem(from);
-        item.clearSlots();
-        item.addSlot(to);
-        registerItem(item);
+        relocate(from, to);
     }
 
     /** Swap two GuiItems */
     protected final void swapItems(int a, int b) {
-        GuiItem itemA = getItem(a).clone();
-        GuiItem itemB = getItem(b).clone();
-
-        if (itemA != null) unregisterSlotOnly(a);
-        if (itemB != null) unregisterSlotOnly(b);
-
-        if (itemA != null) {
-            itemA.clearSlots();
-            itemA.addSlot(b);
-            registerItem(itemA);
-        }
-        if (itemB != null) {
-            itemB.clearSlots();
-            itemB.addSlot(a);
-            registerItem(itemB);
-        }
+        exchange(a, b);
     }
 
     /** Move multiple items with optional delay between each */
-    protected final void moveMultiple(List<Integer> fromSlots, List<Integer> toSlots, long delay) {
+    protected final Playback moveMultiple(List<Integer> fromSlots, List<Integer> toSlots, long delay) {
+        var timeline = Timeline.builder();
         int size = Math.min(fromSlots.size(), toSlots.size());
         for (int i = 0; i < size; i++) {
-            int from = fromSlots.get(i);
-            int to = toSlots.get(i);
-            after(i * delay, () -> moveItem(from, to));
+            timeline.move(step(i, delay), fromSlots.get(i), toSlots.get(i));
         }
+        return play(timeline.build());
     }
 
     /** Swap multiple pairs of items with optional delay */
-    protected final void swapMultiple(List<Integer> slotsA, List<Integer> slotsB, long delay) {
+    protected final Playback swapMultiple(List<Integer> slotsA, List<Integer> slotsB, long delay) {
+        var timeline = Timeline.builder();
         int size = Math.min(slotsA.size(), slotsB.size());
         for (int i = 0; i < size; i++) {
-            int a = slotsA.get(i);
-            int b = slotsB.get(i);
-            after(i * delay, () -> swapItems(a, b));
+            timeline.swap(step(i, delay), slotsA.get(i), slotsB.get(i));
         }
+        return play(timeline.build());
+    }
+
+    /**
+     * Moves the stack shown in a slot to another slot, keeping its owner and reusing the stack.
+     */
+    private void relocate(int from, int to) {
+        GuiItem owner = getItem(from);
+        if (owner == null || from == to) return;
+
+        ItemStack stack = shownOrRender(owner, from);
+        unregisterSlotOnly(from);
+        placeRendered(owner, to, stack);
+    }
+
+    /**
+     * Exchanges the contents of two slots, reusing the stacks they already show.
+     */
+    private void exchange(int a, int b) {
+        if (a == b) return;
+        GuiItem ownerA = getItem(a);
+        GuiItem ownerB = getItem(b);
+        ItemStack stackA = ownerA != null ? shownOrRender(ownerA, a) : null;
+        ItemStack stackB = ownerB != null ? shownOrRender(ownerB, b) : null;
+
+        if (ownerB != null) placeRendered(ownerB, a, stackB);
+        else clearSlots(List.of(a));
+
+        if (ownerA != null) placeRendered(ownerA, b, stackA);
+        else clearSlots(List.of(b));
+    }
+
+    private @Nullable ItemStack shownOrRender(@NotNull GuiItem owner, int slot) {
+        ItemStack shown = shownStack(slot);
+        return shown != null ? shown : owner.render(getViewer());
+    }
+
+    private static int step(int index, long interval) {
+        return Math.toIntExact(index * Math.max(0L, interval));
     }
 
     /* ========================================================= */
@@ -153,90 +350,57 @@ public abstract class AbstractGuiFrame extends AbstractGuiLayer {
     /* ========================================================= */
 
     /** Fill slots sequentially with GuiItem and period */
-    protected final void fillSequential(List<Integer> slots, GuiItem item, long period) {
-        Iterator<Integer> it = slots.iterator();
-        every(0, period, () -> {
-            if (!it.hasNext()) {
-                stopAllFrames();
-                return;
-            }
-            int slot = it.next();
-            GuiItem copy = item.clone();
-            copy.clearSlots();
-            copy.addSlot(slot);
-            register(copy);
-        });
+    protected final Playback fillSequential(List<Integer> slots, GuiItem item, long period) {
+        var timeline = Timeline.builder();
+        for (int i = 0; i < slots.size(); i++) {
+            timeline.set(step(i, period), slots.get(i), item);
+        }
+        return play(timeline.build());
     }
 
     /** Clear slots sequentially */
-    protected final void clearSequential(List<Integer> slots, long period) {
-        Iterator<Integer> it = slots.iterator();
-        every(0, period, () -> {
-            if (!it.hasNext()) {
-                stopAllFrames();
-                return;
-            }
-            unregisterItem(it.next());
-        });
+    protected final Playback clearSequential(List<Integer> slots, long period) {
+        var timeline = Timeline.builder();
+        for (int i = 0; i < slots.size(); i++) {
+            timeline.clear(step(i, period), slots.get(i));
+        }
+        return play(timeline.build());
     }
 
     /** Blink GuiItem in slot periodically */
-    protected final void blink(int slot, long period) {
+    protected final @Nullable Playback blink(int slot, long period) {
         GuiItem original = getItem(slot);
-        if (original == null) return;
-
-        every(0, period, new Runnable() {
-            boolean visible = true;
-
-            @Override
-            public void run() {
-                if (!isOpen()) {
-                    stopAllFrames();
-                    return;
-                }
-                if (visible) unregisterItem(slot);
-                else registerItem(original.clone());
-                visible = !visible;
-            }
-        });
+        if (original == null) return null;
+
+        int half = Math.toIntExact(Math.max(1L, period));
+        return play(Timeline.builder()
+                .clear(0, slot)
+                .set(half, slot, original)
+                .loop(half * 2)
+                .build());
     }
 
-    /** Wave animation across slots sequentially */
-    protected final void wave(List<Integer> slots, long period) {
-        Iterator<Integer> it = slots.iterator();
-        every(0, period, new Runnable() {
-            Integer prev = null;
-
-            @Override
-            public void run() {
-                if (!it.hasNext()) {
-                    stopAllFrames();
-                    return;
-                }
-                if (prev != null) unregisterItem(prev);
-                prev = it.next();
-                GuiItem item = getItem(slots.get(0));
-                if (item != null) {
-                    registerItem(item.clone().clearSlots().addSlot(prev));
-                }
-            }
-        });
+    /** Wave animation: carries the item in the first slot across the slots sequentially */
+    protected final @Nullable Playback wave(List<Integer> slots, long period) {
+        if (slots.isEmpty()) return null;
+        GuiItem item = getItem(slots.get(0));
+        if (item == null) return null;
+
+        var timeline = Timeline.builder();
+        for (int i = 0; i < slots.size(); i++) {
+            int tick = step(i, period);
+            if (i > 0) timeline.clear(tick, slots.get(i - 1));
+            timeline.set(tick, slots.get(i), item);
+        }
+        return play(timeline.build());
     }
 
     /** Wind / spiral animation */
-    protected final void windAnimation(List<List<Integer>> layers, GuiItem item, long step) {
-        long tick = 0;
-        for (List<Integer> layer : layers) {
-            for (int slot : layer) {
-                long currentTick = tick;
-                after(currentTick, () -> {
-                    GuiItem copy = item.clone();
-                    copy.clearSlots();
-                    copy.addSlot(slot);
-                    register(copy);
-                });
-            }
-            tick += step;
+    protected final Playback windAnimation(List<List<Integer>> layers, GuiItem item, long step) {
+        var timeline = Timeline.builder();
+        for (int i = 0; i < layers.size(); i++) {
+            timeline.set(step(i, step), layers.get(i), item);
         }
+        return play(timeline.build());
     }
 }
@@ -1,18 +1,41 @@
 package xyz.overdyn.dyngui.abstracts;
 
 import net.kyori.adventure.text.Component;
+import org.bukkit.Bukkit;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.entity.HumanEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.inventory.InventoryCloseEvent;
+import org.bukkit.event.inventory.InventoryInteractEvent;
 import org.bukkit.event.inventory.InventoryType;
-import org.bukkit.scheduler.BukkitTask;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import xyz.overdyn.dyngui.DynGui;
+import xyz.overdyn.dyngui.abstracts.handler.GuiHandler;
 import xyz.overdyn.dyngui.items.GuiItem;
 import xyz.overdyn.dyngui.items.ItemWrapper;
 import xyz.overdyn.dyngui.policy.GuiPolicy;
+import xyz.overdyn.dyngui.scheduler.TickEndQueue;
+import xyz.overdyn.dyngui.scheduler.UpdateCoordinator;
+import xyz.overdyn.dyngui.tools.InventoryContentSender;
+import xyz.overdyn.dyngui.tools.NmsAccess;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Level;
 
 /**
  * Abstract GUI layer with dynamic item support and optional auto-update.
@@ -23,15 +46,86 @@ import java.util.List;
  *     <li>Dynamic updates of items via {@link #updateAll}</li>
  *     <li>Auto-refresh loop via {@link #enableAutoUpdate}</li>
  *     <li>Slot handlers and inventory clearing on unregister</li>
+ *     <li>Batched bulk updates flushed as one container-content packet via {@link #batch}</li>
+ *     <li>Optional off-main-thread rendering via {@link #setAsyncRender}</li>
+ *     <li>Optional deferred flushing of slot mutations via {@link #setDeferredFlush}</li>
+ *     <li>Per-viewer overlays for viewer-specific items in {@linkplain #setShared shared} GUIs</li>
  * </ul>
  */
 public abstract class AbstractGuiLayer extends AbstractGuiController {
 
-    /** List of all registered GUI items for this layer. */
-    private final List<GuiItem> items = new ArrayList<>();
+    /** Number of raw slots occupied by the player inventory below the top inventory. */
+    private static final int PLAYER_INVENTORY_SLOTS = 36;
 
-    /** Scheduled task that periodically updates GUI items when auto-update is enabled. */
-    private BukkitTask taskUpdate;
+    /** Shared empty slot array for items that are not bound to any slot. */
+    private static final int[] NO_SLOTS = new int[0];
+
+    /**
+     * All registered GUI items for this layer, mapped to the slots they were bound to.
+     *
+     * <p>The bound slots are recorded at registration time, so later mutation of
+     * {@link GuiItem#getSlots()} by user code cannot desynchronize the layer.</p>
+     */
+    private final Map<GuiItem, int[]> items = new LinkedHashMap<>();
+
+    /**
+     * Slot ownership table indexed by raw slot.
+     *
+     * <p>Sized to the top inventory plus the player inventory raw slots and grown
+     * on demand if the inventory is rebuilt with a larger size.</p>
+     */
+    private GuiItem[] slotOwners = new GuiItem[getInventory().getSize() + PLAYER_INVENTORY_SLOTS];
+
+    /** Inventory the flush cache below describes; a rebuilt inventory resets the cache. */
+    private Inventory flushedInventory;
+
+    /** Copy of the last stack written to each slot, {@code null} for an empty slot. */
+    private ItemStack[] flushedStacks;
+
+    /** Content hash of {@link #flushedStacks}, checked before the full equality test. */
+    private int[] flushedHashes;
+
+    /** Number of slot writes that reached the inventory. */
+    private long flushedSlots;
+
+    /** Number of slot writes skipped because the slot already held an equal stack. */
+    private long skippedSlots;
+
+    /** Nesting depth of active {@link #batch} scopes. */
+    private int batchDepth;
+
+    /** Slots changed inside the current outermost batch. */
+    private int batchChanged;
+
+    /** Changed-slot count above which a batch is pushed as one content packet, {@code -1} for half the inventory. */
+    private int batchThreshold = -1;
+
+    /** Number of batches pushed as a single container-content packet. */
+    private long contentFlushes;
+
+    /** Whether slot mutations are only marked dirty and written by {@link #flush()}. */
+    private boolean deferredFlush;
+
+    /** Slots mutated since the last flush while {@link #deferredFlush} is enabled. */
+    private final BitSet dirtySlots = new BitSet();
+
+    /** Whether a flush is queued for the end of the current tick. */
+    private boolean flushQueued;
+
+    /** Per-viewer overlay state of a shared GUI, created once a second viewer joins. */
+    private @Nullable ViewerOverlays overlays;
+
+    /** Whether {@link #updateAll} renders thread-safe items on the render pool. */
+    private boolean asyncRender;
+
+    /** Generation of the most recently started render, main thread only. */
+    private long renderGeneration;
+
+    /** Generation of the most recently applied render; older results are discarded. */
+    private long appliedGeneration;
+
+    /** Registration with the update coordinator while auto-update is enabled. */
+    private UpdateCoordinator.Handle taskUpdate;
 
     /** Flag indicating whether auto-update is currently enabled. */
     private boolean updatesEnabled;
@@ -39,10 +133,6 @@ public abstract class AbstractGuiLayer extends AbstractGuiController {
     /** Flag used internally to indicate a bulk update in progress. */
     private boolean updating;
 
-    {
-        onClose(event -> disableAutoUpdate());
-    }
-
     /**
      * Constructs a GUI layer with a specific inventory type.
      *
@@ -86,42 +176,138 @@ public abstract class AbstractGuiLayer extends AbstractGuiController {
      */
     @Override
     public final void open(@NotNull HumanEntity player) {
-        updateAll(player, true);
+        if (!isShared() || getViewer() == null) updateAll(player, true);
         super.open(player);
     }
 
+    /**
+     * Shows the viewer-specific items of a shared GUI to a viewer that joined later.
+     */
+    @Override
+    protected void onViewerAdded(@NotNull Player player) {
+        if (player == getViewer()) return;
+        if (overlays == null) overlays = new ViewerOverlays();
+        overlays.full.add(player);
+        overlays.schedule();
+    }
+
+    /**
+     * Forgets a leaving viewer's overlays; if the primary viewer left, the viewer-specific
+     * items are re-rendered into the shared inventory for the new primary viewer.
+     */
+    @Override
+    protected void onViewerRemoved(@NotNull Player player) {
+        if (overlays == null) return;
+        overlays.forget(player);
+
+        var primary = getViewer();
+        if (primary == null || primary == overlays.primary) return;
+        overlays.primary = primary;
+        overlays.forget(primary);
+
+        beginBatch();
+        try {
+            for (var item : List.copyOf(items.keySet())) {
+                if (item.isViewerSpecific()) refreshItem(item);
+            }
+        } finally {
+            endBatch();
+        }
+    }
+
+    @Override
+    protected void onContentsSent(@NotNull Player player) {
+        if (overlays != null && player != getViewer()) {
+            overlays.resend.add(player);
+            overlays.schedule();
+        }
+    }
+
+    /** Restores a secondary viewer's overlays after the server resynchronized a click. */
+    @GuiHandler
+    private void restoreOverlaysOnClick(@NotNull InventoryInteractEvent event) {
+        if (overlays == null || !(event.getWhoClicked() instanceof Player player)) return;
+        onContentsSent(player);
+    }
+
     /**
      * Enables automatic updates of all registered GUI items at a fixed interval.
      *
-     * <p>This method starts a scheduled task that will call {@link #updateAll(HumanEntity)}
-     * for the current viewer of the GUI at every {@code periodTicks} ticks.</p>
+     * <p>This method registers the GUI with the plugin-wide {@link UpdateCoordinator}, which
+     * calls {@link #updateAll(HumanEntity)} for the current viewer every {@code periodTicks}
+     * ticks on average. Refreshes of different GUIs are spread across ticks and share a
+     * per-tick time budget, so a single refresh may run a few ticks late.</p>
      * <p>If the player closes the GUI or goes offline, the auto-update task is cancelled
      * automatically.</p>
      *
      * @param periodTicks Interval in server ticks between each update (20 ticks = 1 second)
      */
     public void enableAutoUpdate(long periodTicks) {
+        enableAutoUpdate(periodTicks, periodTicks);
+    }
+
+    /**
+     * Enables automatic updates whose interval adapts to server load.
+     *
+     * <p>While the server keeps up, items are refreshed every {@code minPeriodTicks}. As the
+     * average tick time rises the interval is stretched towards {@code maxPeriodTicks}, and
+     * it is restored once the load drops. See {@link UpdateCoordinator} for the thresholds.
+     * The current interval is reported by {@link #getEffectiveUpdatePeriod()}.</p>
+     *
+     * @param minPeriodTicks interval in ticks under no load
+     * @param maxPeriodTicks interval in ticks under full load
+     */
+    public void enableAutoUpdate(long minPeriodTicks, long maxPeriodTicks) {
         updatesEnabled = true;
 
         if (taskUpdate != null) taskUpdate.cancel();
 
-        taskUpdate = scheduler.runTask(() -> {
+        taskUpdate = DynGui.getInstance().getUpdateCoordinator().register(() -> {
             if (!updatesEnabled || !isOpen() || getViewer() == null || !getViewer().isOnline()) {
                 disableAutoUpdate();
                 return;
             }
 
             updating = true;
-            updateAll(getViewer());
-            updating = false;
+            try {
+                updateAll(getViewer());
+            } finally {
+                updating = false;
+            }
+
+        }, minPeriodTicks, maxPeriodTicks);
+    }
+
+    /** Stops auto-update once the last viewer closes the inventory, unless it is being rebuilt. */
+    @GuiHandler
+    private void stopUpdatesOnClose(@NotNull InventoryCloseEvent event) {
+        if (getViewer() != null) return;
+        overlays = null;
+        if (!isRebuilding()) disableAutoUpdate();
+    }
+
+    /**
+     * Returns the interval auto-update currently uses, including load adaptation.
+     *
+     * @return interval in ticks, or {@code -1} if auto-update is disabled
+     */
+    public long getEffectiveUpdatePeriod() {
+        return taskUpdate != null ? taskUpdate.effectivePeriod() : -1L;
+    }
 
-        }, periodTicks, periodTicks);
+    /**
+     * Returns the refresh rate auto-update currently runs at, including load adaptation.
+     *
+     * @return updates per second, or {@code 0} if auto-update is disabled
+     */
+    public double getEffectiveUpdateRate() {
+        return taskUpdate != null ? taskUpdate.effectiveRate() : 0.0;
     }
 
     /**
      * Disables any active auto-update loop.
      *
-     * <p>Cancels the scheduled task and sets {@link #updatesEnabled} to false.</p>
+     * <p>Cancels the coordinator registration and sets {@link #updatesEnabled} to false.</p>
      */
     public void disableAutoUpdate() {
         updatesEnabled = false;
@@ -132,21 +318,19 @@ public abstract class AbstractGuiLayer extends AbstractGuiController {
     }
 
     /**
-     * Returns the list of all GUI items currently registered in this layer.
+     * Returns all GUI items currently registered in this layer.
      *
      * <p>The returned collection represents the internal state of the GUI layer
      * and contains all {@link GuiItem} instances that are currently bound to
-     * one or more inventory slots.</p>
+     * one or more inventory slots, in registration order.</p>
      *
-     * <p><b>Important:</b> the returned list is backed by the internal storage.
-     * Modifying it directly may lead to inconsistent GUI state. External code
-     * should treat this list as read-only unless explicitly managing the GUI
-     * lifecycle.</p>
+     * <p><b>Important:</b> the returned collection is a read-only view backed by
+     * the internal storage. Use the register / unregister methods to modify it.</p>
      *
-     * @return the list of registered {@link GuiItem}s for this GUI layer
+     * @return the registered {@link GuiItem}s for this GUI layer
      */
-    public List<GuiItem> getItems() {
-        return items;
+    public Collection<GuiItem> getItems() {
+        return Collections.unmodifiableCollection(items.keySet());
     }
 
     /**
@@ -162,27 +346,13 @@ public abstract class AbstractGuiLayer extends AbstractGuiController {
      */
     public void registerItem(@NotNull GuiItem item) {
         if (item.getSlots().isEmpty()) return;
-        var pendingSlots = new HashSet<>(item.getSlots());
 
-        for (int slot : pendingSlots) {
+        for (int slot : item.getSlots()) {
             var existing = getItem(slot);
-
-            if (existing != null) {
-                pendingSlots.removeAll(existing.getSlots());
-                unregisterItem(existing);
-            } else {
-                getInventory().clear(slot);
-            }
+            if (existing != null) unregisterItem(existing);
         }
 
-        var itemStack = item.render(getViewer());
-
-        setSlotHandlers(item.getSlots(), item::handleClick);
-        items.add(item);
-
-        for (int slot : item.getSlots()) {
-            getInventory().setItem(slot, itemStack);
-        }
+        bindItem(item);
     }
 
     /**
@@ -209,14 +379,7 @@ public abstract class AbstractGuiLayer extends AbstractGuiController {
             unregisterSlotOnly(slot);
         }
 
-        var itemStack = item.render(getViewer());
-
-        setSlotHandlers(item.getSlots(), item::handleClick);
-        items.add(item);
-
-        for (int slot : item.getSlots()) {
-            getInventory().setItem(slot, itemStack);
-        }
+        bindItem(item);
     }
 
     /**
@@ -230,16 +393,70 @@ public abstract class AbstractGuiLayer extends AbstractGuiController {
      * @param slot The target inventory slot to unregister
      */
     public void unregisterSlotOnly(int slot) {
+        if (detachSlot(slot)) releaseSlot(slot);
+    }
+
+    /**
+     * Removes a slot from its owner without touching the inventory.
+     *
+     * @param slot slot to detach
+     * @return {@code true} if the slot had an owner
+     */
+    private boolean detachSlot(int slot) {
         GuiItem item = getItem(slot);
-        if (item == null) return;
+        if (item == null) return false;
 
         item.getSlots().remove(slot);
+        slotOwners[slot] = null;
         removeSlotHandler(slot);
-        getInventory().clear(slot);
 
-        if (item.getSlots().isEmpty()) {
+        int[] bound = withoutSlot(items.get(item), slot);
+        if (bound.length == 0) {
             items.remove(item);
+        } else {
+            items.put(item, bound);
         }
+        return true;
+    }
+
+    /**
+     * Binds one slot to an item and writes an already rendered stack into it.
+     *
+     * <p>A previous owner only loses this slot. The item is added to the layer if it
+     * is not registered yet. No rendering happens, which makes this the building block
+     * for animations that reuse stacks across frames.</p>
+     *
+     * @param item  new owner of the slot
+     * @param slot  target slot
+     * @param stack stack to show, rendered from {@code item} by the caller
+     */
+    protected final void placeRendered(@NotNull GuiItem item, int slot, @Nullable ItemStack stack) {
+        if (slotOwners.length <= slot) ensureSlotCapacity(new int[]{slot});
+        if (slotOwners[slot] != item) {
+            detachSlot(slot);
+            int[] bound = items.getOrDefault(item, NO_SLOTS);
+            int[] next = Arrays.copyOf(bound, bound.length + 1);
+            next[bound.length] = slot;
+            items.put(item, next);
+            if (!item.getSlots().contains(slot)) item.addSlot(slot);
+            slotOwners[slot] = item;
+            setSlotHandler(slot, item::handleClick);
+        }
+        dirtySlots.clear(slot);
+        writeSlot(slot, stack);
+    }
+
+    /**
+     * Returns the stack this layer last wrote into a slot.
+     *
+     * <p>The returned stack is the layer's own copy and must not be modified.</p>
+     *
+     * @param slot slot index
+     * @return last written stack, or {@code null} if the slot is empty or unknown
+     */
+    protected final @Nullable ItemStack shownStack(int slot) {
+        if (flushedInventory != getInventory() || slot < 0 || slot >= flushedStacks.length) return null;
+        return flushedStacks[slot];
     }
 
     /**
@@ -256,12 +473,20 @@ public abstract class AbstractGuiLayer extends AbstractGuiController {
      * switching pages, or performing a full reset.</p>
      */
     public void unregisterAllItems() {
-        for (GuiItem item : items) {
-            removeSlotHandlers(item.getSlots());
-            item.getSlots().forEach(getInventory()::clear);
-        }
+        beginBatch();
+        try {
+            for (int[] bound : items.values()) {
+                for (int slot : bound) {
+                    slotOwners[slot] = null;
+                    removeSlotHandler(slot);
+                    releaseSlot(slot);
+                }
+            }
 
-        items.clear();
+            items.clear();
+        } finally {
+            endBatch();
+        }
     }
 
     /**
@@ -283,10 +508,15 @@ public abstract class AbstractGuiLayer extends AbstractGuiController {
      * @param item The {@link GuiItem} to remove
      */
     public void unregisterItem(@NotNull GuiItem item) {
-        if (!items.contains(item)) return;
-        items.remove(item);
-        removeSlotHandlers(item.getSlots());
-        item.getSlots().forEach(getInventory()::clear);
+        int[] bound = items.remove(item);
+        if (bound == null) return;
+
+        for (int slot : bound) {
+            if (slotOwners[slot] != item) continue;
+            slotOwners[slot] = null;
+            removeSlotHandler(slot);
+            releaseSlot(slot);
+        }
     }
 
     /**
@@ -308,30 +538,151 @@ public abstract class AbstractGuiLayer extends AbstractGuiController {
      * @param first  True if this is the first render (forces update even if item.isUpdate() is false)
      */
     private void updateAll(@NotNull HumanEntity player, boolean first) {
-        for (var item : items) {
-            if (!item.isUpdate() && !first) continue;
-            var itemStack = item.render((OfflinePlayer) player);
-            for (int slot : item.getSlots()) {
-                getInventory().setItem(slot, itemStack);
+        if (asyncRender && !first) {
+            renderAsync((OfflinePlayer) player);
+            return;
+        }
+
+        appliedGeneration = ++renderGeneration;
+        beginBatch();
+        try {
+            for (var entry : items.entrySet()) {
+                var item = entry.getKey();
+                if (!item.isUpdate() && !first) continue;
+                var itemStack = item.render((OfflinePlayer) player);
+                for (int slot : entry.getValue()) {
+                    writeSlot(slot, itemStack);
+                    dirtySlots.clear(slot);
+                }
             }
+        } finally {
+            endBatch();
         }
     }
 
+    /**
+     * Renders updatable items on the render pool and applies the results on the main thread.
+     *
+     * <p>Items that {@linkplain GuiItem#requiresMainThread() require the main thread} are
+     * rendered and written immediately. The rest are rendered concurrently, and the
+     * resulting stacks are written in a single batch on the next tick. If a newer render
+     * was applied in the meantime, the results are discarded.</p>
+     *
+     * @param player The player context for rendering
+     */
+    private void renderAsync(@NotNull OfflinePlayer player) {
+        long generation = ++renderGeneration;
+        List<GuiItem> pending = new ArrayList<>();
+
+        beginBatch();
+        try {
+            for (var entry : items.entrySet()) {
+                var item = entry.getKey();
+                if (!item.isUpdate()) continue;
+                if (!item.requiresMainThread()) {
+                    pending.add(item);
+                    continue;
+                }
+                var itemStack = item.render(player);
+                for (int slot : entry.getValue()) {
+                    writeSlot(slot, itemStack);
+                }
+            }
+        } finally {
+            endBatch();
+        }
+
+        if (pending.isEmpty()) return;
+
+        var dynGui = DynGui.getInstance();
+        var executor = dynGui.getRenderExecutor();
+        List<CompletableFuture<ItemStack>> renders = new ArrayList<>(pending.size());
+        for (var item : pending) {
+            renders.add(CompletableFuture.supplyAsync(() -> item.render(player), executor));
+        }
+
+        CompletableFuture.allOf(renders.toArray(new CompletableFuture[0]))
+                .whenComplete((ignored, error) -> {
+                    var plugin = dynGui.getPlugin();
+                    if (!plugin.isEnabled()) return;
+                    Bukkit.getScheduler().runTask(plugin, () -> applyRendered(generation, pending, renders));
+                });
+    }
+
+    /**
+     * Writes the results of an off-thread render, unless a newer render was already applied.
+     */
+    private void applyRendered(long generation,
+                               @NotNull List<GuiItem> rendered,
+                               @NotNull List<CompletableFuture<ItemStack>> results) {
+        if (generation <= appliedGeneration || getViewer() == null) return;
+        appliedGeneration = generation;
+
+        beginBatch();
+        try {
+            for (int i = 0; i < rendered.size(); i++) {
+                var item = rendered.get(i);
+                int[] bound = items.get(item);
+                if (bound == null) continue;
+
+                ItemStack itemStack;
+                try {
+                    itemStack = results.get(i).join();
+                } catch (Exception e) {
+                    DynGui.getInstance().getPlugin().getLogger().log(Level.WARNING, "Failed to render GUI item", e);
+                    continue;
+                }
+
+                for (int slot : bound) {
+                    if (slotOwners[slot] == item) writeSlot(slot, itemStack);
+                }
+            }
+        } finally {
+            endBatch();
+        }
+    }
+
+    /**
+     * Enables or disables off-main-thread rendering for periodic updates.
+     *
+     * <p>When enabled, {@link #updateAll} renders thread-safe items on the
+     * {@linkplain DynGui#getRenderExecutor() render pool} and applies them one tick later.
+     * The first render on open always happens synchronously.</p>
+     *
+     * @param asyncRender {@code true} to render off the main thread
+     */
+    public void setAsyncRender(boolean asyncRender) {
+        this.asyncRender = asyncRender;
+    }
+
+    /**
+     * Returns whether periodic updates are rendered off the main thread.
+     *
+     * @return {@code true} if async rendering is enabled
+     */
+    public boolean isAsyncRender() {
+        return asyncRender;
+    }
+
     /**
      * Updates a single slot's item visually for the current viewer.
      *
+     * <p>With {@linkplain #setDeferredFlush deferred flushing} the item's slots are only
+     * marked dirty and rendered at the next {@link #flush()}.</p>
+     *
      * @param slot Slot index to update
      */
     public void updateSlot(int slot) {
         if (getViewer() == null) return;
         GuiItem item = getItem(slot);
         if (item == null) return;
-        item.render(getViewer());
-        if (!item.getSlots().isEmpty()) {
-            var itemStack = item.baseItemStack();
-            for (int s : item.getSlots()) {
-                getInventory().setItem(s, itemStack);
-            }
+        if (deferredFlush) {
+            for (int s : items.getOrDefault(item, NO_SLOTS)) markDirty(s);
+            return;
+        }
+        var itemStack = item.render(getViewer());
+        for (int s : items.getOrDefault(item, NO_SLOTS)) {
+            writeSlot(s, itemStack);
         }
     }
 
@@ -342,10 +693,379 @@ public abstract class AbstractGuiLayer extends AbstractGuiController {
      * @return The {@link GuiItem} occupying the slot, or null if none
      */
     public GuiItem getItem(int slot) {
-        for (GuiItem item : items) {
-            if (item.getSlots().contains(slot)) return item;
+        return slot >= 0 && slot < slotOwners.length ? slotOwners[slot] : null;
+    }
+
+    /**
+     * Binds an item to all of its declared slots, renders it once and writes
+     * the result into the inventory.
+     *
+     * <p>Callers are responsible for releasing any previous owners of the slots.</p>
+     *
+     * @param item the item to bind
+     */
+    private void bindItem(@NotNull GuiItem item) {
+        int[] bound = item.getSlots().stream().mapToInt(Integer::intValue).distinct().toArray();
+        ensureSlotCapacity(bound);
+
+        ItemStack itemStack = deferredFlush ? null : item.render(getViewer());
+
+        setSlotHandlers(item.getSlots(), item::handleClick);
+        items.put(item, bound);
+
+        for (int slot : bound) {
+            slotOwners[slot] = item;
+            if (deferredFlush) markDirty(slot);
+            else writeSlot(slot, itemStack);
+        }
+
+        var skullTexture = item.getItemData().skullTextureReady();
+        if (!skullTexture.isDone()) {
+            skullTexture.thenRun(() -> refreshItem(item));
+        }
+    }
+
+    /**
+     * Re-renders an item into the slots it is currently bound to, if it is still registered.
+     *
+     * <p>Used when an item's template changes asynchronously, e.g. once a skull
+     * texture finished loading. Only that item's slots are written.</p>
+     *
+     * @param item the item to refresh
+     */
+    private void refreshItem(@NotNull GuiItem item) {
+        int[] bound = items.get(item);
+        if (bound == null) return;
+
+        if (deferredFlush) {
+            for (int slot : bound) {
+                if (slotOwners[slot] == item) markDirty(slot);
+            }
+            return;
+        }
+
+        var itemStack = item.render(getViewer());
+        for (int slot : bound) {
+            if (slotOwners[slot] == item) writeSlot(slot, itemStack);
+        }
+    }
+
+    /**
+     * Enables or disables deferred flushing.
+     *
+     * <p>While enabled, {@link #registerItem}, {@link #registerItemOverlay}, {@link #updateSlot}
+     * and the unregister methods only change ownership and mark the affected slots dirty.
+     * Dirty slots are rendered and written once, in one batch, at the end of the current
+     * tick or on an explicit {@link #flush()}. An item bound to several dirty slots is
+     * rendered once. Disabling the mode flushes pending slots immediately.</p>
+     *
+     * @param deferredFlush {@code true} to defer slot writes
+     */
+    public void setDeferredFlush(boolean deferredFlush) {
+        this.deferredFlush = deferredFlush;
+        if (!deferredFlush) flush();
+    }
+
+    /**
+     * Returns whether slot mutations are deferred until {@link #flush()}.
+     *
+     * @return {@code true} if deferred flushing is enabled
+     */
+    public boolean isDeferredFlush() {
+        return deferredFlush;
+    }
+
+    /**
+     * Renders and writes every dirty slot now.
+     *
+     * <p>Slots without an owner are cleared. Does nothing if no slot is dirty.</p>
+     */
+    public void flush() {
+        if (dirtySlots.isEmpty()) return;
+
+        var viewer = getViewer();
+        Map<GuiItem, ItemStack> rendered = new IdentityHashMap<>();
+        beginBatch();
+        try {
+            for (int slot = dirtySlots.nextSetBit(0); slot >= 0; slot = dirtySlots.nextSetBit(slot + 1)) {
+                dirtySlots.clear(slot);
+                var owner = getItem(slot);
+                if (owner == null) {
+                    clearSlot(slot);
+                } else {
+                    writeSlot(slot, rendered.computeIfAbsent(owner, item -> item.render(viewer)));
+                }
+            }
+        } finally {
+            endBatch();
+        }
+    }
+
+    /**
+     * Returns the number of slots waiting for the next flush.
+     *
+     * @return dirty slot count
+     */
+    public int getDirtySlotCount() {
+        return dirtySlots.cardinality();
+    }
+
+    /**
+     * Marks a slot for the next flush and queues an end-of-tick flush if none is pending.
+     */
+    private void markDirty(int slot) {
+        dirtySlots.set(slot);
+        if (!flushQueued) {
+            flushQueued = true;
+            TickEndQueue.enqueue(() -> {
+                flushQueued = false;
+                flush();
+            });
+        }
+    }
+
+    /**
+     * Clears a released slot, or marks it dirty while flushing is deferred.
+     */
+    private void releaseSlot(int slot) {
+        if (deferredFlush) markDirty(slot);
+        else clearSlot(slot);
+    }
+
+    /**
+     * Writes a stack into the inventory unless the slot already shows an equal stack.
+     *
+     * <p>The layer remembers a copy of the last stack it pushed per slot. A cheap
+     * content hash is compared first and a full {@link ItemStack#equals(Object)}
+     * check only runs when the hashes match, so unchanged slots never reach
+     * {@link Inventory#setItem(int, ItemStack)} and never cause a slot packet.</p>
+     *
+     * <p>Writes made directly through {@link #getInventory()} bypass this cache;
+     * call {@link #invalidateFlushCache()} after such writes.</p>
+     *
+     * @param slot  target slot
+     * @param stack stack to show, or {@code null} to clear the slot
+     */
+    protected final void writeSlot(int slot, @Nullable ItemStack stack) {
+        var inventory = getInventory();
+        if (inventory != flushedInventory) resetFlushCache(inventory);
+        if (overlays != null) overlays.slotWritten(slot);
+
+        if (slot < 0 || slot >= flushedStacks.length) {
+            if (overlays != null) overlays.slotChanged(slot);
+            inventory.setItem(slot, stack);
+            flushedSlots++;
+            if (batchDepth > 0) batchChanged++;
+            return;
+        }
+
+        if (stack == null || stack.getType().isAir()) {
+            if (flushedStacks[slot] == null) {
+                skippedSlots++;
+                return;
+            }
+            flushedStacks[slot] = null;
+            flushedHashes[slot] = 0;
+            if (overlays != null) overlays.slotChanged(slot);
+            inventory.clear(slot);
+            flushedSlots++;
+            if (batchDepth > 0) batchChanged++;
+            return;
+        }
+
+        int hash = stack.hashCode();
+        var last = flushedStacks[slot];
+        if (last != null && flushedHashes[slot] == hash && last.equals(stack) && isStillShown(inventory, slot, stack)) {
+            skippedSlots++;
+            return;
+        }
+
+        flushedStacks[slot] = stack.clone();
+        flushedHashes[slot] = hash;
+        if (overlays != null) overlays.slotChanged(slot);
+        inventory.setItem(slot, stack);
+        flushedSlots++;
+        if (batchDepth > 0) batchChanged++;
+    }
+
+    /**
+     * Runs a bulk operation with its slot writes batched.
+     *
+     * <p>Writes still reach the inventory immediately, but the packets are coalesced:
+     * when more slots than {@link #getBatchThreshold()} changed, the whole container is
+     * pushed to the viewer as one content packet instead of one set-slot packet per
+     * slot. Smaller batches are left to the regular per-slot synchronization.
+     * Batches may be nested; only the outermost one flushes.</p>
+     *
+     * @param action bulk operation to run
+     */
+    public void batch(@NotNull Runnable action) {
+        beginBatch();
+        try {
+            action.run();
+        } finally {
+            endBatch();
+        }
+    }
+
+    /**
+     * Opens a batch scope. Every call must be paired with {@link #endBatch()} in a {@code finally} block.
+     */
+    protected final void beginBatch() {
+        if (batchDepth++ == 0) batchChanged = 0;
+    }
+
+    /**
+     * Closes a batch scope and flushes the outermost one.
+     */
+    protected final void endBatch() {
+        if (batchDepth == 0 || --batchDepth > 0) return;
+
+        int changed = batchChanged;
+        batchChanged = 0;
+        if (changed > getBatchThreshold() && isOpen()) {
+            for (Player player : getViewers()) {
+                if (player.getOpenInventory().getTopInventory() != getInventory()) continue;
+                InventoryContentSender.sendContents(player);
+                onContentsSent(player);
+            }
+            contentFlushes++;
         }
-        return null;
+    }
+
+    /**
+     * Returns the changed-slot count above which a batch is sent as one content packet.
+     *
+     * @return batch threshold
+     */
+    public int getBatchThreshold() {
+        return batchThreshold < 0 ? getInventory().getSize() / 2 : batchThreshold;
+    }
+
+    /**
+     * Sets the changed-slot count above which a batch is sent as one content packet.
+     *
+     * @param threshold slot count, or {@code -1} for half of the inventory size
+     */
+    public void setBatchThreshold(int threshold) {
+        this.batchThreshold = Math.max(-1, threshold);
+    }
+
+    /**
+     * Returns the number of batches pushed as a single container-content packet.
+     *
+     * @return content flush count
+     */
+    public long getContentFlushCount() {
+        return contentFlushes;
+    }
+
+    /**
+     * Cheap sanity check that the live slot was not emptied or changed by a player
+     * interaction since the last write. Only material and amount are compared.
+     */
+    private static boolean isStillShown(@NotNull Inventory inventory, int slot, @NotNull ItemStack stack) {
+        var live = inventory.getItem(slot);
+        return live != null && live.getType() == stack.getType() && live.getAmount() == stack.getAmount();
+    }
+
+    /**
+     * Clears a slot through the flush cache.
+     *
+     * @param slot target slot
+     */
+    protected final void clearSlot(int slot) {
+        writeSlot(slot, null);
+    }
+
+    /**
+     * Forgets every remembered slot stack, forcing the next write of each slot
+     * to reach the inventory.
+     */
+    public void invalidateFlushCache() {
+        resetFlushCache(getInventory());
+    }
+
+    /**
+     * Returns the number of slot writes that reached the inventory.
+     *
+     * @return flushed slot count
+     */
+    public long getFlushedSlotCount() {
+        return flushedSlots;
+    }
+
+    /**
+     * Returns the number of slot writes skipped because nothing changed.
+     *
+     * @return skipped slot count
+     */
+    public long getSkippedSlotCount() {
+        return skippedSlots;
+    }
+
+    /**
+     * Resets the flushed and skipped slot counters.
+     */
+    public void resetFlushCounters() {
+        flushedSlots = 0;
+        skippedSlots = 0;
+        contentFlushes = 0;
+    }
+
+    /**
+     * Re-creates the flush cache for the given inventory.
+     *
+     * <p>A freshly created inventory is empty, which matches an all-{@code null} cache.
+     * For an inventory that already holds contents the real stacks are remembered.</p>
+     *
+     * @param inventory the current backing inventory
+     */
+    private void resetFlushCache(@NotNull Inventory inventory) {
+        int size = inventory.getSize();
+        flushedInventory = inventory;
+        flushedStacks = new ItemStack[size];
+        flushedHashes = new int[size];
+
+        for (int slot = 0; slot < size; slot++) {
+            var current = inventory.getItem(slot);
+            if (current == null || current.getType().isAir()) continue;
+            flushedStacks[slot] = current.clone();
+            flushedHashes[slot] = current.hashCode();
+        }
+    }
+
+    /**
+     * Grows the ownership table so that every given slot can be indexed.
+     *
+     * @param slots slots about to be bound
+     */
+    private void ensureSlotCapacity(int[] slots) {
+        int required = getInventory().getSize() + PLAYER_INVENTORY_SLOTS;
+        for (int slot : slots) {
+            if (slot < 0) throw new IllegalArgumentException("Invalid slot: " + slot);
+            required = Math.max(required, slot + 1);
+        }
+        if (required > slotOwners.length) {
+            slotOwners = Arrays.copyOf(slotOwners, required);
+        }
+    }
+
+    /**
+     * Returns a copy of the given slot array without the specified slot.
+     *
+     * @param bound current slots, may be {@code null}
+     * @param slot  slot to drop
+     * @return remaining slots
+     */
+    private static int[] withoutSlot(int[] bound, int slot) {
+        if (bound == null) return NO_SLOTS;
+        int[] result = new int[bound.length];
+        int size = 0;
+        for (int s : bound) {
+            if (s != slot) result[size++] = s;
+        }
+        return size == bound.length ? bound : Arrays.copyOf(result, size);
     }
 
     /**
@@ -356,4 +1076,121 @@ public abstract class AbstractGuiLayer extends AbstractGuiController {
     public boolean isUpdating() {
         return updating;
     }
+
+    /**
+     * Per-viewer overlays of a shared GUI.
+     *
+     * <p>The shared inventory holds every item rendered for the primary viewer. Secondary
+     * viewers get their own render of viewer-specific items as set-slot packets, sent at
+     * the end of the tick so they land after the server's own slot synchronization.
+     * Viewer-independent items are never rendered per viewer.</p>
+     */
+    private final class ViewerOverlays {
+
+        /** Last overlay stacks sent to each secondary viewer, indexed by slot. */
+        private final Map<Player, ItemStack[]> shown = new HashMap<>();
+
+        /** Viewer-specific items to re-render for every secondary viewer. */
+        private final Set<GuiItem> dirty = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        /** Secondary viewers that need every viewer-specific item rendered. */
+        private final Set<Player> full = new HashSet<>();
+
+        /** Secondary viewers whose client lost the overlays and needs them re-sent. */
+        private final Set<Player> resend = new HashSet<>();
+
+        private @Nullable Player primary = getViewer();
+        private boolean queued;
+
+        /**
+         * Tracks a write to the shared inventory: viewer-specific owners are re-rendered
+         * for secondary viewers.
+         */
+        private void slotWritten(int slot) {
+            var owner = getItem(slot);
+            if (owner != null && owner.isViewerSpecific()) {
+                dirty.add(owner);
+                schedule();
+            }
+        }
+
+        /**
+         * Tracks a change of the shared stack, which the server synchronizes to every
+         * viewer and so replaces whatever overlay their client showed in that slot.
+         */
+        private void slotChanged(int slot) {
+            for (var stacks : shown.values()) {
+                if (slot < stacks.length) stacks[slot] = null;
+            }
+        }
+
+        private void forget(@NotNull Player player) {
+            shown.remove(player);
+            full.remove(player);
+            resend.remove(player);
+        }
+
+        private void schedule() {
+            if (queued) return;
+            queued = true;
+            TickEndQueue.enqueue(this::send);
+        }
+
+        private void send() {
+            queued = false;
+            if (overlays != this) return;
+
+            var primary = getViewer();
+            var access = NmsAccess.get();
+            if (primary != null && access.canSendSlots()) {
+                int size = getInventory().getSize();
+                for (Player player : getViewers()) {
+                    if (player == primary || player.getOpenInventory().getTopInventory() != getInventory()) continue;
+
+                    var stacks = shown.get(player);
+                    if (stacks == null || stacks.length != size) {
+                        stacks = new ItemStack[size];
+                        shown.put(player, stacks);
+                    }
+                    send(access, player, stacks, full.contains(player), resend.contains(player));
+                }
+            }
+
+            dirty.clear();
+            full.clear();
+            resend.clear();
+        }
+
+        private void send(@NotNull NmsAccess access, @NotNull Player player, @NotNull ItemStack[] stacks,
+                          boolean all, boolean resendAll) {
+            var sent = new BitSet(stacks.length);
+            for (var item : all ? List.copyOf(items.keySet()) : List.copyOf(dirty)) {
+                int[] bound = items.get(item);
+                if (bound == null || !item.isViewerSpecific()) continue;
+
+                var stack = item.render(player);
+                for (int slot : bound) {
+                    if (slot >= stacks.length || slotOwners[slot] != item) continue;
+                    // the client still shows this overlay; a due re-send picks it up below
+                    if (stack.equals(stacks[slot])) continue;
+                    stacks[slot] = stack;
+                    sent.set(slot);
+                    sendSlot(access, player, slot, stack);
+                }
+            }
+
+            if (!all && !resendAll) return;
+            for (int slot = 0; slot < stacks.length; slot++) {
+                if (stacks[slot] != null && !sent.get(slot)) sendSlot(access, player, slot, stacks[slot]);
+            }
+        }
+
+        private void sendSlot(@NotNull NmsAccess access, @NotNull Player player, int slot, @NotNull ItemStack stack) {
+            try {
+                access.sendSlot(player, slot, stack);
+            } catch (Throwable throwable) {
+                DynGui.getInstance().getPlugin().getLogger().log(Level.FINE, "Failed to send GUI overlay slot", throwable);
+            }
+        }
+    }
 }
@@ -39,6 +39,11 @@ public abstract class AbstractGuiPaginator extends AbstractGuiLayer {
      */
     protected int currentPage = -1;
 
+    /**
+     * Items registered for the currently active page.
+     */
+    private List<GuiItem> visibleItems = List.of();
+
     /**
      * Constructs a paginated GUI with the given component title and policy.
      *
@@ -78,9 +83,31 @@ public abstract class AbstractGuiPaginator extends AbstractGuiLayer {
      */
     @Contract(pure = true)
     public final int pages() {
+        return pageCount();
+    }
+
+    /**
+     * Returns the number of pages that can be opened.
+     *
+     * <p>Defaults to the number of registered {@link Page}s. Subclasses that
+     * materialize pages on demand override this together with {@link #pageItems(int)}.</p>
+     *
+     * @return page count
+     */
+    protected int pageCount() {
         return pages.size();
     }
 
+    /**
+     * Returns the items to register when the given page is opened.
+     *
+     * @param pageIndex page index, within {@code [0; pageCount())}
+     * @return items of the page, with their slots already assigned
+     */
+    protected @NotNull List<GuiItem> pageItems(int pageIndex) {
+        return pages.get(pageIndex).controllers();
+    }
+
     /**
      * Returns the index of the currently active page.
      *
@@ -115,7 +142,7 @@ public abstract class AbstractGuiPaginator extends AbstractGuiLayer {
      * @return true if page changed, false otherwise
      */
     public boolean nextPage() {
-        if (currentPage < pages.size() - 1) {
+        if (currentPage < pageCount() - 1) {
             openPage(currentPage + 1);
             return true;
         }
@@ -142,27 +169,51 @@ public abstract class AbstractGuiPaginator extends AbstractGuiLayer {
      * @param pageIndex target page index (0-based)
      */
     public void openPage(int pageIndex) {
-        if (pageIndex < 0 || pageIndex >= pages.size()) {
+        if (pageIndex < 0 || pageIndex >= pageCount()) {
             return;
         }
 
-        // Unregister current page items
-        if (currentPage >= 0 && currentPage < pages.size()) {
-            Page current = pages.get(currentPage);
-            for (GuiItem item : current.controllers()) {
+        List<GuiItem> target = pageItems(pageIndex);
+
+        beginBatch();
+        try {
+            // Unregister current page items
+            for (GuiItem item : visibleItems) {
                 unregisterItem(item);
             }
-        }
 
-        // Register new page items
-        Page target = pages.get(pageIndex);
-        for (GuiItem item : target.controllers()) {
-            registerItem(item);
+            // Register new page items
+            for (GuiItem item : target) {
+                registerItem(item);
+            }
+        } finally {
+            endBatch();
         }
 
+        this.visibleItems = target;
         this.currentPage = pageIndex;
     }
 
+    /**
+     * Unregisters the items of the active page and marks no page as active.
+     */
+    protected void closePage() {
+        for (GuiItem item : visibleItems) {
+            unregisterItem(item);
+        }
+        this.visibleItems = List.of();
+        this.currentPage = -1;
+    }
+
+    /**
+     * Returns the items registered for the active page.
+     *
+     * @return visible page items
+     */
+    protected final @NotNull List<GuiItem> visibleItems() {
+        return visibleItems;
+    }
+
     /**
      * Represents a single GUI page containing a list of item controllers.
      *
@@ -0,0 +1,76 @@
+package xyz.overdyn.dyngui.abstracts.content;
+
+import org.jetbrains.annotations.NotNull;
+import xyz.overdyn.dyngui.items.GuiItem;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Data source for virtualized paginated content.
+ *
+ * <p>Only the visible page is requested from the source, so opening a page costs
+ * O(page size) regardless of how many entries the source holds. Implementations
+ * may page through a database, a cached listing, or an in-memory list.</p>
+ *
+ * <p>Returned items are owned by the GUI for as long as their page is open; their
+ * slots are assigned by the GUI.</p>
+ */
+public interface ContentSource {
+
+    /**
+     * Returns the total number of entries.
+     *
+     * @return entry count
+     */
+    int size();
+
+    /**
+     * Materializes a contiguous range of entries.
+     *
+     * @param offset index of the first entry
+     * @param limit  maximum number of entries to return
+     * @return items for the requested range, at most {@code limit} long
+     */
+    @NotNull
+    List<GuiItem> range(int offset, int limit);
+
+    /**
+     * Creates a source backed by a list of prepared items.
+     *
+     * @param items backing list, read on every page request
+     * @return content source
+     */
+    static @NotNull ContentSource of(@NotNull List<GuiItem> items) {
+        return of(items, Function.identity());
+    }
+
+    /**
+     * Creates a source that turns backing entries into items only when their page is shown.
+     *
+     * @param data    backing list, read on every page request
+     * @param factory creates the item for one entry
+     * @param <T>     entry type
+     * @return content source
+     */
+    static <T> @NotNull ContentSource of(@NotNull List<T> data, @NotNull Function<T, GuiItem> factory) {
+        return new ContentSource() {
+            @Override
+            public int size() {
+                return data.size();
+            }
+
+            @Override
+            public @NotNull List<GuiItem> range(int offset, int limit) {
+                int from = Math.max(0, Math.min(offset, data.size()));
+                int to = Math.min(data.size(), from + Math.max(0, limit));
+                List<GuiItem> items = new ArrayList<>(to - from);
+                for (int i = from; i < to; i++) {
+                    items.add(factory.apply(data.get(i)));
+                }
+                return items;
+            }
+        };
+    }
+}
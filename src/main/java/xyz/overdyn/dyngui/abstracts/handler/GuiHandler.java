@@ -0,0 +1,40 @@
+package xyz.overdyn.dyngui.abstracts.handler;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a method of an {@link xyz.overdyn.dyngui.abstracts.AbstractGuiController} subclass
+ * as an event handler.
+ *
+ * <p>The method must take exactly one parameter whose type is a Bukkit event. It receives
+ * that event and every subclass of it dispatched to the GUI. Handlers are discovered once
+ * per GUI class and shared by all of its instances through a {@link HandlerTemplate}, so
+ * declaring a handler this way costs nothing when an instance is created.</p>
+ *
+ * <pre>{@code
+ * @GuiHandler
+ * private void onDrag(InventoryDragEvent event) {
+ *     event.setCancelled(true);
+ * }
+ * }</pre>
+ *
+ * <p>Superclass handlers run before subclass handlers; within a class, methods run in
+ * ascending {@link #order()} and then by name. Overridden methods are invoked once,
+ * through the most specific override.</p>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface GuiHandler {
+
+    /**
+     * Position of the handler among the annotated methods declared in the same class.
+     *
+     * @return sort key, lower runs first
+     */
+    int order() default 0;
+}
@@ -0,0 +1,180 @@
+package xyz.overdyn.dyngui.abstracts.handler;
+
+import org.bukkit.event.Event;
+import org.jetbrains.annotations.NotNull;
+import xyz.overdyn.dyngui.abstracts.AbstractGui;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable dispatch table built from the {@link GuiHandler} methods of one GUI class.
+ *
+ * <p>Templates are created once per class and shared by every instance. Handler chains
+ * are resolved lazily per concrete event class, so dispatching a Paper subclass of a
+ * Bukkit event walks the class hierarchy once and then hits the cache.</p>
+ */
+public final class HandlerTemplate {
+
+    private static final MethodType INVOKER_TYPE =
+            MethodType.methodType(void.class, AbstractGui.class, Event.class);
+
+    private static final MethodHandle[] EMPTY_CHAIN = new MethodHandle[0];
+
+    private static final ClassValue<HandlerTemplate> TEMPLATES = new ClassValue<>() {
+        @Override
+        protected HandlerTemplate computeValue(@NotNull Class<?> type) {
+            return new HandlerTemplate(type);
+        }
+    };
+
+    private final Class<?> owner;
+    private final Entry[] entries;
+    private final Map<Class<?>, MethodHandle[]> chains = new ConcurrentHashMap<>();
+
+    private HandlerTemplate(@NotNull Class<?> owner) {
+        this.owner = owner;
+        this.entries = scan(owner);
+    }
+
+    /**
+     * Returns the shared template for a GUI class.
+     *
+     * @param type GUI class
+     * @return template built from the class and its superclasses
+     */
+    public static @NotNull HandlerTemplate of(@NotNull Class<? extends AbstractGui> type) {
+        return TEMPLATES.get(type);
+    }
+
+    /**
+     * Returns whether the class declares no handlers at all.
+     *
+     * @return {@code true} if dispatch is always a no-op
+     */
+    public boolean isEmpty() {
+        return entries.length == 0;
+    }
+
+    /**
+     * Returns the number of handler methods in this template.
+     *
+     * @return handler count
+     */
+    public int size() {
+        return entries.length;
+    }
+
+    /**
+     * Invokes every handler accepting the event on the given GUI.
+     *
+     * @param gui   instance of the template's class
+     * @param event event to dispatch
+     */
+    public void dispatch(@NotNull AbstractGui gui, @NotNull Event event) {
+        if (entries.length == 0) return;
+
+        MethodHandle[] chain = chains.get(event.getClass());
+        if (chain == null) {
+            chain = chains.computeIfAbsent(event.getClass(), this::resolve);
+        }
+
+        for (MethodHandle handler : chain) {
+            try {
+                handler.invokeExact(gui, event);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw new IllegalStateException("GUI handler of " + owner.getName() + " failed", throwable);
+            }
+        }
+    }
+
+    private MethodHandle[] resolve(@NotNull Class<?> eventType) {
+        List<MethodHandle> matched = new ArrayList<>();
+        for (Entry entry : entries) {
+            if (entry.eventType.isAssignableFrom(eventType)) matched.add(entry.invoker);
+        }
+        return matched.isEmpty() ? EMPTY_CHAIN : matched.toArray(EMPTY_CHAIN);
+    }
+
+    private static Entry[] scan(@NotNull Class<?> type) {
+        Deque<Class<?>> hierarchy = new ArrayDeque<>();
+        for (Class<?> current = type; current != null && AbstractGui.class.isAssignableFrom(current);
+             current = current.getSuperclass()) {
+            hierarchy.push(current);
+        }
+
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        Set<String> seen = new HashSet<>();
+        List<Entry> entries = new ArrayList<>();
+
+        for (Class<?> declaring : hierarchy) {
+            Method[] methods = declaring.getDeclaredMethods();
+            Arrays.sort(methods, Comparator
+                    .comparingInt((Method method) -> method.isAnnotationPresent(GuiHandler.class)
+                            ? method.getAnnotation(GuiHandler.class).order() : 0)
+                    .thenComparing(Method::getName));
+
+            for (Method method : methods) {
+                GuiHandler annotation = method.getAnnotation(GuiHandler.class);
+                if (annotation == null) continue;
+                validate(method);
+
+                Class<?> eventType = method.getParameterTypes()[0];
+                boolean overridable = !Modifier.isPrivate(method.getModifiers());
+                if (overridable && !seen.add(method.getName() + '(' + eventType.getName() + ')')) {
+                    continue;
+                }
+
+                entries.add(new Entry(eventType, bind(lookup, type, method)));
+            }
+        }
+        return entries.toArray(new Entry[0]);
+    }
+
+    private static void validate(@NotNull Method method) {
+        if (Modifier.isStatic(method.getModifiers())
+                || method.getParameterCount() != 1
+                || !Event.class.isAssignableFrom(method.getParameterTypes()[0])) {
+            throw new IllegalStateException("@GuiHandler method " + method
+                    + " must be an instance method taking a single Bukkit event");
+        }
+    }
+
+    /**
+     * Binds a handler method; non-private methods dispatch virtually, so an override in a
+     * subclass is the one invoked even when the annotation sits on the superclass.
+     */
+    private static MethodHandle bind(@NotNull MethodHandles.Lookup lookup,
+                                     @NotNull Class<?> type,
+                                     @NotNull Method method) {
+        try {
+            method.setAccessible(true);
+            MethodHandle handle = lookup.unreflect(method);
+            if (handle.type().returnType() != void.class) {
+                handle = MethodHandles.dropReturn(handle);
+            }
+            return handle.asType(INVOKER_TYPE);
+        } catch (IllegalAccessException | RuntimeException e) {
+            throw new IllegalStateException("Cannot bind @GuiHandler method " + method
+                    + " of " + type.getName(), e);
+        }
+    }
+
+    private record Entry(Class<?> eventType, MethodHandle invoker) {
+    }
+}
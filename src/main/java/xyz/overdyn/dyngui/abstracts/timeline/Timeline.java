@@ -0,0 +1,238 @@
+package xyz.overdyn.dyngui.abstracts.timeline;
+
+import org.jetbrains.annotations.NotNull;
+import xyz.overdyn.dyngui.items.GuiItem;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compiled keyframe animation for {@link xyz.overdyn.dyngui.abstracts.AbstractGuiFrame}.
+ *
+ * <p>A timeline is a table of slot writes keyed by tick offset. It is built once and may
+ * be played any number of times on any frame. When it is played, every distinct item is
+ * cloned and rendered once, and each keyframe only rebinds slots and writes the
+ * pre-rendered stacks. All timelines of a frame are driven by one task.</p>
+ *
+ * <pre>{@code
+ * Timeline intro = Timeline.builder()
+ *         .set(0, List.of(0, 8), border)
+ *         .set(2, List.of(1, 7), border)
+ *         .move(4, 13, 22)
+ *         .build();
+ * play(intro);
+ * }</pre>
+ *
+ * <p>Instances are immutable.</p>
+ */
+public final class Timeline {
+
+    /**
+     * Kind of slot operation.
+     */
+    public enum Kind {
+        /** Binds {@link Keyframe#item()} to {@link Keyframe#slot()}. */
+        SET,
+        /** Unbinds and clears {@link Keyframe#slot()}. */
+        CLEAR,
+        /** Moves whatever is shown in {@link Keyframe#slot()} to {@link Keyframe#target()}. */
+        MOVE,
+        /** Swaps the contents of {@link Keyframe#slot()} and {@link Keyframe#target()}. */
+        SWAP
+    }
+
+    /**
+     * One slot operation.
+     *
+     * @param kind   operation
+     * @param slot   primary slot
+     * @param target second slot for {@link Kind#MOVE} and {@link Kind#SWAP}, otherwise {@code -1}
+     * @param item   index into {@link #items()} for {@link Kind#SET}, otherwise {@code -1}
+     */
+    public record Keyframe(@NotNull Kind kind, int slot, int target, int item) {}
+
+    private final List<GuiItem> items;
+    private final int[] ticks;
+    private final List<List<Keyframe>> frames;
+    private final int length;
+    private final int loopLength;
+
+    private Timeline(@NotNull Builder builder) {
+        this.items = List.copyOf(builder.items);
+        this.ticks = builder.frames.keySet().stream().mapToInt(Integer::intValue).toArray();
+        List<List<Keyframe>> compiled = new ArrayList<>(ticks.length);
+        for (var frame : builder.frames.values()) compiled.add(List.copyOf(frame));
+        this.frames = List.copyOf(compiled);
+        this.length = ticks.length == 0 ? 0 : ticks[ticks.length - 1] + 1;
+        this.loopLength = builder.loopLength;
+    }
+
+    public static @NotNull Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the distinct items referenced by {@link Kind#SET} keyframes.
+     *
+     * @return item table
+     */
+    public @NotNull List<GuiItem> items() {
+        return items;
+    }
+
+    /**
+     * Returns the number of ticks that carry keyframes.
+     *
+     * @return frame count
+     */
+    public int frameCount() {
+        return ticks.length;
+    }
+
+    /**
+     * Returns the tick offset of a frame.
+     *
+     * @param index frame index, in ascending tick order
+     * @return tick offset from the start of the timeline
+     */
+    public int frameTick(int index) {
+        return ticks[index];
+    }
+
+    /**
+     * Returns the keyframes of a frame, in the order they were added.
+     *
+     * @param index frame index, in ascending tick order
+     * @return keyframes applied on that tick
+     */
+    public @NotNull List<Keyframe> frame(int index) {
+        return frames.get(index);
+    }
+
+    /**
+     * Returns the number of ticks until the last keyframe has been applied.
+     *
+     * @return length in ticks
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Returns the loop length, after which playback restarts from tick zero.
+     *
+     * @return loop length in ticks, or {@code 0} for a one-shot timeline
+     */
+    public int loopLength() {
+        return loopLength;
+    }
+
+    /**
+     * Collects keyframes. Keyframes on the same tick are applied in insertion order.
+     */
+    public static final class Builder {
+
+        private final TreeMap<Integer, List<Keyframe>> frames = new TreeMap<>();
+        private final List<GuiItem> items = new ArrayList<>();
+        private final Map<GuiItem, Integer> itemIndex = new IdentityHashMap<>();
+        private int loopLength;
+
+        private Builder() {
+        }
+
+        /**
+         * Binds an item to a slot.
+         *
+         * @param tick tick offset
+         * @param slot target slot
+         * @param item item to show; rendered once per playback
+         * @return this builder
+         */
+        public @NotNull Builder set(int tick, int slot, @NotNull GuiItem item) {
+            int index = itemIndex.computeIfAbsent(item, key -> {
+                items.add(key);
+                return items.size() - 1;
+            });
+            return add(tick, new Keyframe(Kind.SET, slot, -1, index));
+        }
+
+        /**
+         * Binds an item to several slots on the same tick.
+         *
+         * @param tick  tick offset
+         * @param slots target slots
+         * @param item  item to show; rendered once per playback
+         * @return this builder
+         */
+        public @NotNull Builder set(int tick, @NotNull Collection<Integer> slots, @NotNull GuiItem item) {
+            for (int slot : slots) set(tick, slot, item);
+            return this;
+        }
+
+        /**
+         * Unbinds and clears a slot.
+         *
+         * @param tick tick offset
+         * @param slot slot to clear
+         * @return this builder
+         */
+        public @NotNull Builder clear(int tick, int slot) {
+            return add(tick, new Keyframe(Kind.CLEAR, slot, -1, -1));
+        }
+
+        /**
+         * Moves the item shown in one slot to another.
+         *
+         * @param tick tick offset
+         * @param from source slot
+         * @param to   target slot
+         * @return this builder
+         */
+        public @NotNull Builder move(int tick, int from, int to) {
+            return add(tick, new Keyframe(Kind.MOVE, from, to, -1));
+        }
+
+        /**
+         * Swaps the items shown in two slots.
+         *
+         * @param tick tick offset
+         * @param a    first slot
+         * @param b    second slot
+         * @return this builder
+         */
+        public @NotNull Builder swap(int tick, int a, int b) {
+            return add(tick, new Keyframe(Kind.SWAP, a, b, -1));
+        }
+
+        /**
+         * Makes the timeline restart from tick zero every {@code length} ticks until stopped.
+         *
+         * @param length loop length in ticks, must cover the last keyframe
+         * @return this builder
+         */
+        public @NotNull Builder loop(int length) {
+            this.loopLength = length;
+            return this;
+        }
+
+        public @NotNull Timeline build() {
+            if (loopLength != 0 && (frames.isEmpty() || loopLength <= frames.lastKey())) {
+                throw new IllegalStateException("Loop length must exceed the last keyframe tick");
+            }
+            return new Timeline(this);
+        }
+
+        private @NotNull Builder add(int tick, @NotNull Keyframe keyframe) {
+            if (tick < 0) throw new IllegalArgumentException("Tick must not be negative: " + tick);
+            if (keyframe.slot() < 0 || (keyframe.kind() != Kind.SET && keyframe.kind() != Kind.CLEAR && keyframe.target() < 0)) {
+                throw new IllegalArgumentException("Slots must not be negative");
+            }
+            frames.computeIfAbsent(tick, key -> new ArrayList<>()).add(keyframe);
+            return this;
+        }
+    }
+}
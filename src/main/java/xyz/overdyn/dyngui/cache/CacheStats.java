@@ -0,0 +1,24 @@
+package xyz.overdyn.dyngui.cache;
+
+/**
+ * Point-in-time statistics of a {@link LruCache}.
+ *
+ * @param hits      lookups served from the cache
+ * @param misses    lookups that had to load or wait for a load
+ * @param loads     values actually built by a loader
+ * @param evictions entries evicted to stay within the weight limit
+ * @param size      current number of entries
+ * @param weight    current total weight of all entries
+ */
+public record CacheStats(long hits, long misses, long loads, long evictions, int size, long weight) {
+
+    /**
+     * Returns the ratio of hits to all lookups.
+     *
+     * @return hit rate in {@code [0; 1]}, {@code 1} if nothing was looked up yet
+     */
+    public double hitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 1.0 : (double) hits / requests;
+    }
+}
@@ -0,0 +1,196 @@
+package xyz.overdyn.dyngui.cache;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.ToLongBiFunction;
+
+/**
+ * Bounded, thread-safe least-recently-used cache with weight-based eviction.
+ *
+ * <p>Each entry has a weight computed once on insertion; when the total weight exceeds
+ * the limit, least recently used entries are evicted. Loads are single-flight:
+ * concurrent misses for the same key run the loader once and share its result.</p>
+ *
+ * <p>Null keys and values are not supported.</p>
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public final class LruCache<K, V> {
+
+    private final long maximumWeight;
+    private final ToLongBiFunction<K, V> weigher;
+
+    /** Entries in access order, guarded by {@code this}. */
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<K, CompletableFuture<V>> loading = new ConcurrentHashMap<>();
+
+    /** Total weight of {@link #entries}, guarded by {@code this}. */
+    private long weight;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a cache bounded by the number of entries.
+     *
+     * @param maximumSize maximum number of entries
+     */
+    public LruCache(long maximumSize) {
+        this(maximumSize, (key, value) -> 1L);
+    }
+
+    /**
+     * Creates a cache bounded by total weight.
+     *
+     * @param maximumWeight maximum total weight
+     * @param weigher       computes the weight of an entry, must be non-negative
+     */
+    public LruCache(long maximumWeight, @NotNull ToLongBiFunction<K, V> weigher) {
+        if (maximumWeight <= 0) throw new IllegalArgumentException("maximumWeight must be positive");
+        this.maximumWeight = maximumWeight;
+        this.weigher = weigher;
+    }
+
+    /**
+     * Returns the cached value, marking it as recently used.
+     *
+     * @param key key
+     * @return cached value, or {@code null}
+     */
+    public @Nullable V getIfPresent(@NotNull K key) {
+        V value = lookup(key);
+        if (value != null) hits.increment();
+        else misses.increment();
+        return value;
+    }
+
+    /**
+     * Returns the cached value or loads it.
+     *
+     * <p>If another thread is already loading the same key, this call waits for that
+     * load instead of starting a second one. Exceptions thrown by the loader are
+     * propagated to every waiting caller and nothing is cached.</p>
+     *
+     * @param key    key
+     * @param loader builds the value on a miss, must not return {@code null}
+     * @return cached or loaded value
+     */
+    public @NotNull V get(@NotNull K key, @NotNull Function<? super K, ? extends V> loader) {
+        V value = lookup(key);
+        if (value != null) {
+            hits.increment();
+            return value;
+        }
+        misses.increment();
+
+        var flight = new CompletableFuture<V>();
+        var existing = loading.putIfAbsent(key, flight);
+        if (existing != null) return await(existing);
+
+        try {
+            value = lookup(key);
+            if (value == null) {
+                value = loader.apply(key);
+                if (value == null) throw new NullPointerException("Loader returned null for " + key);
+                loads.increment();
+                put(key, value);
+            }
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, flight);
+        }
+    }
+
+    /**
+     * Inserts or replaces a value and evicts least recently used entries if needed.
+     *
+     * @param key   key
+     * @param value value
+     */
+    public synchronized void put(@NotNull K key, @NotNull V value) {
+        long entryWeight = Math.max(0L, weigher.applyAsLong(key, value));
+        var previous = entries.put(key, new Entry<>(value, entryWeight));
+        if (previous != null) weight -= previous.weight;
+        weight += entryWeight;
+        evict();
+    }
+
+    /**
+     * Removes a single entry.
+     *
+     * @param key key
+     */
+    public synchronized void invalidate(@NotNull K key) {
+        var previous = entries.remove(key);
+        if (previous != null) weight -= previous.weight;
+    }
+
+    /**
+     * Removes every entry. Statistics are kept.
+     */
+    public synchronized void invalidateAll() {
+        entries.clear();
+        weight = 0;
+    }
+
+    /**
+     * Returns the current number of entries.
+     *
+     * @return entry count
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns a snapshot of the cache statistics.
+     *
+     * @return statistics
+     */
+    public synchronized @NotNull CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), loads.sum(), evictions.sum(), entries.size(), weight);
+    }
+
+    private synchronized @Nullable V lookup(@NotNull K key) {
+        var entry = entries.get(key);
+        return entry != null ? entry.value : null;
+    }
+
+    private void evict() {
+        Iterator<Entry<V>> iterator = entries.values().iterator();
+        while (weight > maximumWeight && iterator.hasNext()) {
+            var eldest = iterator.next();
+            iterator.remove();
+            weight -= eldest.weight;
+            evictions.increment();
+        }
+    }
+
+    private static <V> V await(@NotNull CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) throw runtime;
+            if (e.getCause() instanceof Error error) throw error;
+            throw e;
+        }
+    }
+
+    private record Entry<V>(V value, long weight) {}
+}
@@ -2,23 +2,38 @@ package xyz.overdyn.dyngui.cache;
 
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
-import xyz.overdyn.dyngui.SkullCreator;
 import xyz.overdyn.dyngui.items.ItemWrapper;
 
-import java.util.HashMap;
-import java.util.Map;
-
+/**
+ * Skull items by base64 texture.
+ *
+ * <p>Profiles are shared through {@link SkullProfileService}; every call returns a new
+ * wrapper around a fresh head, so nothing besides the profile is kept in memory.</p>
+ */
 public class SkullCache {
-    private static final Map<String, ItemWrapper> cache = new HashMap<>();
 
     public static ItemWrapper get(String base64) {
-        return cache.computeIfAbsent(base64, key -> {
-            try {
-                return new ItemWrapper(SkullCreator.itemFromBase64(key));
-            } catch (Exception e) {
-                Bukkit.getLogger().warning("Failed to create skull: " + e.getMessage());
-                return new ItemWrapper(Material.PLAYER_HEAD);
-            }
-        }).clone();
+        try {
+            return new ItemWrapper(SkullProfileService.profile(base64).createItem());
+        } catch (Exception e) {
+            Bukkit.getLogger().warning("Failed to create skull: " + e.getMessage());
+            return new ItemWrapper(Material.PLAYER_HEAD);
+        }
+    }
+
+    /**
+     * Returns hit, miss and eviction statistics of the shared profile cache.
+     *
+     * @return cache statistics
+     */
+    public static CacheStats stats() {
+        return SkullProfileService.stats();
+    }
+
+    /**
+     * Drops every cached profile.
+     */
+    public static void invalidateAll() {
+        SkullProfileService.invalidateAll();
     }
 }
@@ -0,0 +1,122 @@
+package xyz.overdyn.dyngui.cache;
+
+import com.destroystokyo.paper.profile.PlayerProfile;
+import com.destroystokyo.paper.profile.ProfileProperty;
+import com.mojang.authlib.GameProfile;
+import com.mojang.authlib.properties.Property;
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.SkullMeta;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Immutable skull texture profile shared by every head with the same texture.
+ *
+ * <p>Instances are obtained from {@link SkullProfileService} and deduplicated by their
+ * canonical texture key. The underlying game profile is built once and never handed
+ * out, so it cannot be modified by callers.</p>
+ */
+public final class SkullProfile {
+
+    private static final boolean IS_PAPER = checkPaperPresence();
+    private static volatile Field skullProfileField;
+
+    private final @NotNull String key;
+    private final @NotNull String textures;
+    private final @NotNull UUID id;
+    private final @NotNull Object handle;
+
+    SkullProfile(@NotNull String key, @NotNull String textures) {
+        this.key = key;
+        this.textures = textures;
+        this.id = UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8));
+        this.handle = createHandle();
+    }
+
+    private static boolean checkPaperPresence() {
+        try {
+            Class.forName("com.destroystokyo.paper.profile.PlayerProfile");
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    private Object createHandle() {
+        if (IS_PAPER) {
+            var profile = Bukkit.createProfile(id, "CustomHead");
+            profile.setProperty(new ProfileProperty("textures", textures));
+            return profile;
+        }
+        GameProfile profile = new GameProfile(id, "CustomHead");
+        profile.getProperties().put("textures", new Property("textures", textures));
+        return profile;
+    }
+
+    /**
+     * Returns the canonical texture key, the texture hash of the skin URL where available.
+     *
+     * @return canonical key
+     */
+    public @NotNull String key() {
+        return key;
+    }
+
+    /**
+     * Returns the base64 texture value stored in the profile.
+     *
+     * @return base64 textures property
+     */
+    public @NotNull String textures() {
+        return textures;
+    }
+
+    /**
+     * Returns the profile id, derived from the canonical key and stable across restarts.
+     *
+     * @return profile id
+     */
+    public @NotNull UUID id() {
+        return id;
+    }
+
+    /**
+     * Applies this texture to a skull meta.
+     *
+     * @param meta target meta
+     */
+    public void applyTo(@NotNull SkullMeta meta) {
+        if (handle instanceof PlayerProfile profile) {
+            meta.setPlayerProfile(profile);
+            return;
+        }
+        try {
+            Field field = skullProfileField;
+            if (field == null) {
+                field = meta.getClass().getDeclaredField("profile");
+                field.setAccessible(true);
+                skullProfileField = field;
+            }
+            field.set(meta, handle);
+        } catch (Exception ignored) {}
+    }
+
+    /**
+     * Creates a new player head showing this texture.
+     *
+     * @return new ItemStack owned by the caller
+     */
+    public @NotNull ItemStack createItem() {
+        var item = new ItemStack(Material.PLAYER_HEAD);
+        if (item.getItemMeta() instanceof SkullMeta meta) {
+            applyTo(meta);
+            item.setItemMeta(meta);
+        }
+        return item;
+    }
+}
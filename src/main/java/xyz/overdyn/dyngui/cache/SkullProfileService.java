@@ -0,0 +1,183 @@
+package xyz.overdyn.dyngui.cache;
+
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Single source of skull texture profiles for the whole library.
+ *
+ * <p>Textures are keyed canonically by the texture hash of their skin URL, so
+ * base64 values that differ only in encoding, whitespace or extra JSON fields share
+ * one {@link SkullProfile}. Profiles are kept in a bounded LRU cache and concurrent
+ * requests for the same texture build the profile once.</p>
+ *
+ * <p>With {@link #enablePersistence} every built texture is also recorded in a
+ * {@link SkullProfileStore}; on the next start the stored textures are loaded in the
+ * background and their profiles are built before the first menu opens. Recording a
+ * texture only queues it for the store's writer thread, so a cache miss on the main
+ * thread never touches the disk.</p>
+ */
+public final class SkullProfileService {
+
+    /** Maximum number of distinct textures kept in memory. */
+    private static final int MAXIMUM_SIZE = 2048;
+
+    private static final Pattern URL_PATTERN = Pattern.compile("\"url\"\\s*:\\s*\"([^\"]+)\"");
+
+    /** Default cap of textures kept on disk. */
+    private static final int DEFAULT_PERSISTED_ENTRIES = 10_000;
+
+    private static final LruCache<String, SkullProfile> profiles = new LruCache<>(MAXIMUM_SIZE);
+
+    private static volatile SkullProfileStore store;
+
+    private SkullProfileService() {}
+
+    /**
+     * Returns the shared profile for a base64 texture, building it on first use.
+     *
+     * @param base64 base64 textures value
+     * @return shared immutable profile
+     */
+    public static @NotNull SkullProfile profile(@NotNull String base64) {
+        String key = textureKey(base64);
+        return profiles.get(key, ignored -> {
+            var profile = new SkullProfile(key, base64.trim());
+            var current = store;
+            if (current != null) current.append(key, profile.textures());
+            return profile;
+        });
+    }
+
+    /**
+     * Enables the on-disk cache at {@code skull-profiles.bin} in the plugin data folder.
+     *
+     * @param plugin owning plugin
+     * @return future completed once stored profiles are loaded and built
+     */
+    public static @NotNull CompletableFuture<Void> enablePersistence(@NotNull JavaPlugin plugin) {
+        return enablePersistence(plugin.getDataFolder().toPath().resolve("skull-profiles.bin"), DEFAULT_PERSISTED_ENTRIES);
+    }
+
+    /**
+     * Enables the on-disk cache.
+     *
+     * <p>The file is read off the main thread; afterwards the most recent stored textures
+     * are prefetched into memory. Textures requested meanwhile are kept and written once
+     * the file is open.</p>
+     *
+     * @param file           backing file
+     * @param maximumEntries maximum number of textures kept on disk
+     * @return future completed once stored profiles are loaded and built
+     */
+    public static @NotNull CompletableFuture<Void> enablePersistence(@NotNull Path file, int maximumEntries) {
+        disablePersistence();
+        var created = new SkullProfileStore(file, maximumEntries);
+        store = created;
+
+        return CompletableFuture.runAsync(() -> {
+                    try {
+                        created.load();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                })
+                .thenCompose(ignored -> prefetch(created.recentTextures(MAXIMUM_SIZE)))
+                .whenComplete((ignored, error) -> {
+                    if (error != null) {
+                        Bukkit.getLogger().warning("Failed to load skull profile cache: " + error.getMessage());
+                    }
+                });
+    }
+
+    /**
+     * Closes the on-disk cache, if enabled. Profiles in memory are kept.
+     */
+    public static void disablePersistence() {
+        var current = store;
+        store = null;
+        if (current != null) current.close();
+    }
+
+    /**
+     * Returns the shared profile for a base64 texture if it is already in memory.
+     *
+     * @param base64 base64 textures value
+     * @return cached profile, or {@code null}
+     */
+    public static @Nullable SkullProfile cached(@NotNull String base64) {
+        return profiles.getIfPresent(textureKey(base64));
+    }
+
+    /**
+     * Builds the profile for a base64 texture off the main thread.
+     *
+     * @param base64 base64 textures value
+     * @return future completed with the shared profile
+     */
+    public static @NotNull CompletableFuture<SkullProfile> prefetch(@NotNull String base64) {
+        return CompletableFuture.supplyAsync(() -> profile(base64));
+    }
+
+    /**
+     * Builds the profiles for several textures off the main thread, e.g. before opening a menu of heads.
+     *
+     * @param textures base64 textures values
+     * @return future completed once every profile is cached
+     */
+    public static @NotNull CompletableFuture<Void> prefetch(@NotNull Collection<String> textures) {
+        return CompletableFuture.allOf(textures.stream()
+                .map(SkullProfileService::prefetch)
+                .toArray(CompletableFuture[]::new));
+    }
+
+    /**
+     * Returns the canonical key of a base64 texture.
+     *
+     * <p>The key is the last path segment of the skin URL, i.e. the texture hash. If the
+     * value cannot be decoded, the trimmed base64 string itself is used.</p>
+     *
+     * @param base64 base64 textures value
+     * @return canonical texture key
+     */
+    public static @NotNull String textureKey(@NotNull String base64) {
+        String trimmed = base64.trim();
+        try {
+            String json = new String(Base64.getMimeDecoder().decode(trimmed), StandardCharsets.UTF_8);
+            Matcher matcher = URL_PATTERN.matcher(json);
+            if (matcher.find()) {
+                String url = matcher.group(1);
+                return url.substring(url.lastIndexOf('/') + 1);
+            }
+        } catch (IllegalArgumentException ignored) {}
+        return trimmed;
+    }
+
+    /**
+     * Returns hit, miss and eviction statistics of the profile cache.
+     *
+     * @return cache statistics
+     */
+    public static @NotNull CacheStats stats() {
+        return profiles.stats();
+    }
+
+    /**
+     * Drops every cached profile.
+     */
+    public static void invalidateAll() {
+        profiles.invalidateAll();
+    }
+}
@@ -0,0 +1,272 @@
+package xyz.overdyn.dyngui.cache;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UTFDataFormatException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Append-only file of texture key to base64 textures, used to warm the
+ * {@link SkullProfileService} after a restart.
+ *
+ * <p>The file starts with a small header followed by {@code (key, textures)} records.
+ * New textures are appended; when the file holds twice as many records as the cap, or
+ * more live entries than the cap, it is rewritten with the newest entries only.
+ * A truncated trailing record, e.g. after a crash, is ignored and dropped on the
+ * next compaction.</p>
+ *
+ * <p>Appends are handed to a single background writer thread and never block the
+ * caller, so recording a texture from the main thread does no disk I/O and never waits
+ * for {@link #load()} or a compaction. All methods are thread-safe.</p>
+ */
+public final class SkullProfileStore implements Closeable {
+
+    private static final int MAGIC = 0x44475350;
+    private static final int VERSION = 1;
+
+    /** How long {@link #close()} waits for queued appends to be written. */
+    private static final long CLOSE_TIMEOUT_SECONDS = 5L;
+
+    private static final AtomicInteger WRITER_COUNTER = new AtomicInteger();
+
+    private final @NotNull Path file;
+    private final int maximumEntries;
+
+    /** Single daemon thread performing every append, in submission order. */
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "DynGui-SkullStore-" + WRITER_COUNTER.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Live entries in insertion order, oldest first. */
+    private final LinkedHashMap<String, String> entries = new LinkedHashMap<>();
+
+    /** Entries added before {@link #load()} finished, written once the file is open. */
+    private final LinkedHashMap<String, String> pending = new LinkedHashMap<>();
+
+    private DataOutputStream out;
+    private int records;
+    private boolean loaded;
+    private boolean closed;
+
+    /**
+     * @param file           backing file, created on first write
+     * @param maximumEntries maximum number of textures kept on disk
+     */
+    public SkullProfileStore(@NotNull Path file, int maximumEntries) {
+        if (maximumEntries <= 0) throw new IllegalArgumentException("maximumEntries must be positive");
+        this.file = file;
+        this.maximumEntries = maximumEntries;
+    }
+
+    /**
+     * Reads the file, compacts it if needed and opens it for appending.
+     *
+     * @throws IOException if the file cannot be read or written
+     */
+    public synchronized void load() throws IOException {
+        if (loaded || closed) return;
+
+        boolean intact = !Files.exists(file) || read();
+        for (var entry : pending.entrySet()) {
+            entries.putIfAbsent(entry.getKey(), entry.getValue());
+        }
+        trim();
+
+        if (!intact || records != entries.size() || !pending.isEmpty() || !Files.exists(file)) {
+            rewrite();
+        } else {
+            openAppend();
+        }
+        pending.clear();
+        loaded = true;
+    }
+
+    /**
+     * Records a texture on the writer thread. Does nothing if the key is already stored.
+     *
+     * @param key      canonical texture key
+     * @param textures base64 textures value
+     */
+    public void append(@NotNull String key, @NotNull String textures) {
+        try {
+            writer.execute(() -> store(key, textures));
+        } catch (RejectedExecutionException ignored) {
+            // closed
+        }
+    }
+
+    private synchronized void store(@NotNull String key, @NotNull String textures) {
+        if (closed) return;
+        if (!loaded) {
+            pending.putIfAbsent(key, textures);
+            return;
+        }
+        if (entries.putIfAbsent(key, textures) != null) return;
+
+        try {
+            write(out, key, textures);
+            out.flush();
+            records++;
+            if (entries.size() > maximumEntries || records >= maximumEntries * 2) {
+                trim();
+                rewrite();
+            }
+        } catch (IOException e) {
+            closeQuietly();
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} of the most recently stored textures, newest last.
+     *
+     * @param limit maximum number of textures
+     * @return stored base64 textures values
+     */
+    public synchronized @NotNull List<String> recentTextures(int limit) {
+        int skip = Math.max(0, entries.size() - limit);
+        List<String> textures = new ArrayList<>(entries.size() - skip);
+        for (String value : entries.values()) {
+            if (skip-- > 0) continue;
+            textures.add(value);
+        }
+        return textures;
+    }
+
+    /**
+     * Returns the number of textures currently stored.
+     *
+     * @return entry count
+     */
+    public synchronized int size() {
+        return loaded ? entries.size() : pending.size();
+    }
+
+    /**
+     * Rewrites the file with the live entries only.
+     *
+     * @throws IOException if the file cannot be written
+     */
+    public synchronized void compact() throws IOException {
+        if (!loaded || closed) return;
+        trim();
+        rewrite();
+    }
+
+    /**
+     * Writes the appends queued so far, then closes the file. Later appends are ignored.
+     */
+    @Override
+    public void close() {
+        writer.shutdown();
+        try {
+            writer.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (this) {
+            closed = true;
+            closeQuietly();
+        }
+    }
+
+    /**
+     * Reads every complete record.
+     *
+     * @return {@code false} if the header is unknown or the last record is truncated
+     */
+    private boolean read() throws IOException {
+        try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            try {
+                if (in.readInt() != MAGIC || in.readInt() != VERSION) return false;
+            } catch (EOFException e) {
+                return false;
+            }
+
+            while (true) {
+                in.mark(1);
+                if (in.read() < 0) return true;
+                in.reset();
+
+                String key;
+                String textures;
+                try {
+                    key = in.readUTF();
+                    textures = in.readUTF();
+                } catch (EOFException e) {
+                    return false;
+                }
+                entries.remove(key);
+                entries.put(key, textures);
+                records++;
+            }
+        } catch (UTFDataFormatException e) {
+            return false;
+        }
+    }
+
+    private void trim() {
+        Iterator<Map.Entry<String, String>> iterator = entries.entrySet().iterator();
+        while (entries.size() > maximumEntries && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private void rewrite() throws IOException {
+        closeQuietly();
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (var tempOut = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            tempOut.writeInt(MAGIC);
+            tempOut.writeInt(VERSION);
+            for (var entry : entries.entrySet()) {
+                write(tempOut, entry.getKey(), entry.getValue());
+            }
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        records = entries.size();
+        openAppend();
+    }
+
+    private void openAppend() throws IOException {
+        out = new DataOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND)));
+    }
+
+    private static void write(@NotNull DataOutputStream stream, @NotNull String key, @NotNull String textures) throws IOException {
+        stream.writeUTF(key);
+        stream.writeUTF(textures);
+    }
+
+    private void closeQuietly() {
+        if (out == null) return;
+        try {
+            out.close();
+        } catch (IOException ignored) {}
+        out = null;
+    }
+}
@@ -1,6 +1,7 @@
 package xyz.overdyn.dyngui.dupe;
 
 import org.bukkit.NamespacedKey;
+import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.persistence.PersistentDataType;
@@ -8,6 +9,13 @@ import org.bukkit.plugin.java.JavaPlugin;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+/**
+ * Marks GUI items so that copies leaking out of a GUI can be detected and removed.
+ *
+ * <p>{@link #isMarked(ItemStack)} is called for every pickup and drop on the server, so
+ * it rejects stacks without any meta through {@link ItemStack#hasItemMeta()} before
+ * materializing a meta copy. Marked items always carry meta, so this never misses one.</p>
+ */
 public final class ItemMarker {
 
     private static NamespacedKey KEY;
@@ -18,6 +26,15 @@ public final class ItemMarker {
         KEY = new NamespacedKey(plugin, "marked_item");
     }
 
+    /**
+     * Returns the key marked items carry in their persistent data.
+     *
+     * @return marker key, or {@code null} before {@link #init(JavaPlugin)}
+     */
+    public static @Nullable NamespacedKey getKey() {
+        return KEY;
+    }
+
     public static @Nullable ItemStack mark(@Nullable ItemStack item) {
         if (item == null || KEY == null) return item;
         item = item.clone();
@@ -30,8 +47,19 @@ public final class ItemMarker {
         return item;
     }
 
+    /**
+     * Marks an item meta in place, for callers that already hold a meta to write back.
+     *
+     * @param meta meta to mark
+     */
+    public static void mark(@NotNull ItemMeta meta) {
+        if (KEY == null) return;
+        meta.getPersistentDataContainer().set(KEY, PersistentDataType.BYTE, (byte) 1);
+    }
+
     public static boolean isMarked(@Nullable ItemStack item) {
         if (item == null || KEY == null) return false;
+        if (!item.hasItemMeta()) return false;
 
         ItemMeta meta = item.getItemMeta();
         if (meta == null) return false;
@@ -51,4 +79,38 @@ public final class ItemMarker {
         item.setItemMeta(meta);
         return item;
     }
+
+    /**
+     * Checks whether any of the given stacks is marked.
+     *
+     * @param contents stacks to check, may contain {@code null}
+     * @return {@code true} if at least one stack is marked
+     */
+    public static boolean containsMarked(@Nullable ItemStack @NotNull [] contents) {
+        for (ItemStack item : contents) {
+            if (isMarked(item)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Removes every marked stack from an inventory.
+     *
+     * <p>The contents are read once; only slots holding a marked stack are written.</p>
+     *
+     * @param inventory inventory to clean
+     * @return number of removed stacks
+     */
+    public static int removeMarked(@NotNull Inventory inventory) {
+        if (KEY == null) return 0;
+
+        ItemStack[] contents = inventory.getContents();
+        int removed = 0;
+        for (int slot = 0; slot < contents.length; slot++) {
+            if (!isMarked(contents[slot])) continue;
+            inventory.setItem(slot, null);
+            removed++;
+        }
+        return removed;
+    }
 }
@@ -0,0 +1,228 @@
+package xyz.overdyn.dyngui.dupe;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import xyz.overdyn.dyngui.abstracts.AbstractGui;
+import xyz.overdyn.dyngui.scheduler.TickWheel;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Background sweeper removing {@link ItemMarker marked} GUI items that leaked into
+ * player-owned inventories.
+ *
+ * <p>Online players are visited round-robin. Each tick the sweeper checks players until
+ * its time budget is spent, so a full pass over a large server is spread across ticks.
+ * For every player it checks the inventory, optionally the ender chest, and optionally
+ * the open top inventory unless that belongs to a DynGui GUI. Once every player has
+ * been visited, the next pass starts after the configured pause.</p>
+ *
+ * <p>Disabled until {@link #start()} is called. All methods must be called on the main thread.</p>
+ */
+public final class MarkedItemSweeper {
+
+    /**
+     * Where a removed stack was found.
+     */
+    public enum Source {
+        INVENTORY,
+        ENDER_CHEST,
+        OPEN_CONTAINER
+    }
+
+    /**
+     * Stacks removed from one inventory.
+     *
+     * @param player  owner of the swept inventory
+     * @param source  kind of inventory
+     * @param removed number of removed stacks
+     */
+    public record Removal(@NotNull UUID player, @NotNull Source source, int removed) {}
+
+    private final TickWheel wheel;
+    private final Queue<UUID> queue = new ArrayDeque<>();
+
+    private long budgetNanos = TimeUnit.MICROSECONDS.toNanos(500);
+    private long passPause = 20L * 30;
+    private boolean enderChests = true;
+    private boolean openContainers = true;
+    private @Nullable Consumer<Removal> listener;
+
+    private @Nullable BukkitTask task;
+    private long nextPassTick;
+
+    private long removedStacks;
+    private long sweptPlayers;
+    private long completedPasses;
+
+    public MarkedItemSweeper(@NotNull TickWheel wheel) {
+        this.wheel = wheel;
+    }
+
+    /**
+     * Sets the time the sweeper may spend per tick. At least one player is checked per tick.
+     *
+     * @param budget budget
+     * @param unit   budget unit
+     * @return this sweeper
+     */
+    public @NotNull MarkedItemSweeper budget(long budget, @NotNull TimeUnit unit) {
+        this.budgetNanos = Math.max(0L, unit.toNanos(budget));
+        return this;
+    }
+
+    /**
+     * Sets the pause between two full passes over all online players.
+     *
+     * @param ticks pause in ticks
+     * @return this sweeper
+     */
+    public @NotNull MarkedItemSweeper passPause(long ticks) {
+        this.passPause = Math.max(0L, ticks);
+        return this;
+    }
+
+    /**
+     * Sets whether ender chests are swept.
+     *
+     * @param enderChests {@code true} to sweep ender chests
+     * @return this sweeper
+     */
+    public @NotNull MarkedItemSweeper enderChests(boolean enderChests) {
+        this.enderChests = enderChests;
+        return this;
+    }
+
+    /**
+     * Sets whether open containers that are not DynGui GUIs are swept.
+     *
+     * @param openContainers {@code true} to sweep open containers
+     * @return this sweeper
+     */
+    public @NotNull MarkedItemSweeper openContainers(boolean openContainers) {
+        this.openContainers = openContainers;
+        return this;
+    }
+
+    /**
+     * Sets the hook called for every inventory from which stacks were removed.
+     *
+     * @param listener removal hook, or {@code null}
+     * @return this sweeper
+     */
+    public @NotNull MarkedItemSweeper onRemoved(@Nullable Consumer<Removal> listener) {
+        this.listener = listener;
+        return this;
+    }
+
+    /**
+     * Starts sweeping. Does nothing if already running.
+     */
+    public void start() {
+        if (task != null) return;
+        nextPassTick = wheel.currentTick();
+        task = wheel.schedule(this::tick, 1L, 1L, false, null);
+    }
+
+    /**
+     * Stops sweeping. The current pass is resumed on the next {@link #start()}.
+     */
+    public void stop() {
+        if (task == null) return;
+        task.cancel();
+        task = null;
+    }
+
+    /**
+     * Returns whether the sweeper is running.
+     *
+     * @return {@code true} if started
+     */
+    public boolean isRunning() {
+        return task != null;
+    }
+
+    /**
+     * Returns the total number of removed stacks.
+     *
+     * @return removed stack count
+     */
+    public long getRemovedStacks() {
+        return removedStacks;
+    }
+
+    /**
+     * Returns the total number of player visits.
+     *
+     * @return swept player count
+     */
+    public long getSweptPlayers() {
+        return sweptPlayers;
+    }
+
+    /**
+     * Returns the number of completed passes over all online players.
+     *
+     * @return pass count
+     */
+    public long getCompletedPasses() {
+        return completedPasses;
+    }
+
+    private void tick() {
+        if (queue.isEmpty()) {
+            if (wheel.currentTick() < nextPassTick) return;
+            for (Player player : Bukkit.getOnlinePlayers()) {
+                queue.add(player.getUniqueId());
+            }
+            if (queue.isEmpty()) {
+                nextPassTick = wheel.currentTick() + passPause;
+                return;
+            }
+        }
+
+        long deadline = System.nanoTime() + budgetNanos;
+        do {
+            UUID id = queue.poll();
+            if (id == null) break;
+
+            Player player = Bukkit.getPlayer(id);
+            if (player != null) sweep(player);
+        } while (System.nanoTime() < deadline);
+
+        if (queue.isEmpty()) {
+            completedPasses++;
+            nextPassTick = wheel.currentTick() + passPause;
+        }
+    }
+
+    private void sweep(@NotNull Player player) {
+        sweptPlayers++;
+        sweep(player, player.getInventory(), Source.INVENTORY);
+        if (enderChests) {
+            sweep(player, player.getEnderChest(), Source.ENDER_CHEST);
+        }
+        if (openContainers) {
+            Inventory top = player.getOpenInventory().getTopInventory();
+            if (!(top.getHolder(false) instanceof AbstractGui) && top != player.getEnderChest()) {
+                sweep(player, top, Source.OPEN_CONTAINER);
+            }
+        }
+    }
+
+    private void sweep(@NotNull Player player, @NotNull Inventory inventory, @NotNull Source source) {
+        int removed = ItemMarker.removeMarked(inventory);
+        if (removed == 0) return;
+
+        removedStacks += removed;
+        if (listener != null) listener.accept(new Removal(player.getUniqueId(), source, removed));
+    }
+}
@@ -1,5 +1,6 @@
 package xyz.overdyn.dyngui.items;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import net.kyori.adventure.text.Component;
 import org.bukkit.Color;
@@ -16,6 +17,7 @@ import xyz.overdyn.dyngui.items.minecraft.ItemMinecraft;
 import xyz.overdyn.dyngui.items.minecraft.meta.ItemData;
 import xyz.overdyn.dyngui.placeholder.Placeholder;
 import xyz.overdyn.dyngui.placeholder.context.PlaceholderContextImpl;
+import xyz.overdyn.dyngui.placeholder.template.ComponentTemplate;
 
 import java.util.*;
 import java.util.function.Consumer;
@@ -41,6 +43,7 @@ public final class GuiItem implements Cloneable {
     private final @NotNull ItemData data;
     private boolean marker;
     private boolean update;
+    private boolean perViewer;
     private String key;
     private final Map<String, Object> metadata = new HashMap<>();
     private final Map<String, Object> metadataPlaceholder = new HashMap<>();
@@ -48,6 +51,10 @@ public final class GuiItem implements Cloneable {
     private @Nullable Placeholder placeholderEngine;
     private @Nullable Consumer<InventoryClickEvent> clickHandler;
 
+    /** Compiled placeholder templates for the current name and lore of {@link #data}. */
+    @Getter(AccessLevel.NONE)
+    private volatile @Nullable CompiledTemplates templates;
+
     @Deprecated(since = "1.0.2.3", forRemoval = true)
     public static GuiItem fromLegacy(@NotNull ItemWrapper item) {
         return LegacyItemAdapter.convert(item);
@@ -119,6 +126,18 @@ public final class GuiItem implements Cloneable {
         return this;
     }
 
+    /**
+     * Forces this item to be rendered per viewer in shared GUIs, e.g. when a click
+     * handler or plain resolver shows player-specific state.
+     *
+     * @param perViewer {@code true} to always render per viewer
+     * @return this item
+     */
+    public GuiItem setPerViewer(boolean perViewer) {
+        this.perViewer = perViewer;
+        return this;
+    }
+
     public GuiItem setUpdate(boolean update) {
         this.update = update;
         return this;
@@ -173,49 +192,156 @@ public final class GuiItem implements Cloneable {
         if (clickHandler != null) clickHandler.accept(event);
     }
 
+    /**
+     * Returns a fresh, unrendered copy of the template, marked if required.
+     *
+     * @return new ItemStack owned by the caller
+     */
     public ItemStack baseItemStack() {
-        if (isMarker()) return ItemMarker.mark(data.buildItemStack());
-        return data.buildItemStack();
+        var stack = data.newItemStack();
+        if (!isMarker()) return stack;
+
+        var meta = stack.getItemMeta();
+        if (meta == null) return stack;
+        ItemMarker.mark(meta);
+        stack.setItemMeta(meta);
+        return stack;
     }
 
     public ItemData getItemData() {
         return data;
     }
 
+    /**
+     * Renders this item for a viewer.
+     *
+     * <p>The result is built from a fresh copy of the template snapshot and is never
+     * written back, so rendering for one viewer does not affect the next one. Rendering
+     * touches no shared mutable state and may run concurrently from several threads,
+     * as long as the placeholder resolvers themselves are thread-safe.</p>
+     *
+     * @param player viewer used as placeholder context, may be {@code null}
+     * @return new ItemStack owned by the caller
+     */
     public ItemStack render(@Nullable OfflinePlayer player) {
+        var stack = data.newItemStack();
         try {
-            var cachedMeta = data.buildItemStack().getItemMeta();
-            if (cachedMeta == null) return baseItemStack();
+            var meta = stack.getItemMeta();
+            if (meta == null) return stack;
 
             if (placeholderEngine != null) {
                 try {
                     var context = new PlaceholderContextImpl(player, metadataPlaceholder);
 
                     Component name = data.getDisplayName();
-                    List<Component> lore = data.getLore() != null ? new ArrayList<>(data.getLore()) : null;
+                    List<Component> lore = data.getLore();
+                    var compiled = templates(placeholderEngine, name, lore);
 
                     if (name != null) {
-                        name = placeholderEngine.process(name, context);
-                        cachedMeta.displayName(name);
+                        meta.displayName(placeholderEngine.process(compiled.nameTemplate(), context));
                     }
                     if (lore != null) {
-                        lore = placeholderEngine.process(lore, context);
-                        cachedMeta.lore(lore);
+                        List<Component> rendered = new ArrayList<>(lore.size());
+                        for (var line : compiled.loreTemplates()) {
+                            rendered.add(placeholderEngine.process(line, context));
+                        }
+                        meta.lore(rendered);
                     }
                 } catch (Exception e) {
                     e.printStackTrace();
                 }
             }
 
-            data.buildItemStack().setItemMeta(cachedMeta);
-
-            return baseItemStack();
+            if (isMarker()) ItemMarker.mark(meta);
+            stack.setItemMeta(meta);
+            return stack;
         } catch (Exception e) {
             e.printStackTrace();
             return baseItemStack();
         }
     }
 
+    /**
+     * Returns compiled templates for the given name and lore, recompiling only when
+     * the engine, its registrations, or the name / lore instances changed.
+     */
+    private CompiledTemplates templates(@NotNull Placeholder engine,
+                                        @Nullable Component name,
+                                        @Nullable List<Component> lore) {
+        var current = templates;
+        if (current != null && current.matches(engine, name, lore)) return current;
+
+        long version = engine.version();
+        var nameTemplate = name != null ? engine.compile(name) : null;
+        List<ComponentTemplate> loreTemplates = null;
+        if (lore != null) {
+            loreTemplates = new ArrayList<>(lore.size());
+            for (var line : lore) {
+                loreTemplates.add(engine.compile(line));
+            }
+        }
+
+        boolean mainThread = nameTemplate != null && engine.requiresMainThread(nameTemplate);
+        boolean viewer = nameTemplate != null && engine.requiresViewer(nameTemplate);
+        if (loreTemplates != null) {
+            for (var line : loreTemplates) {
+                if (mainThread && viewer) break;
+                if (!mainThread) mainThread = engine.requiresMainThread(line);
+                if (!viewer) viewer = engine.requiresViewer(line);
+            }
+        }
+
+        current = new CompiledTemplates(engine, version, name, nameTemplate, lore, loreTemplates, mainThread, viewer);
+        templates = current;
+        return current;
+    }
+
+    /**
+     * Immutable snapshot of the templates compiled for one name / lore pair.
+     */
+    private record CompiledTemplates(Placeholder engine,
+                                     long version,
+                                     @Nullable Component name,
+                                     @Nullable ComponentTemplate nameTemplate,
+                                     @Nullable List<Component> lore,
+                                     @Nullable List<ComponentTemplate> loreTemplates,
+                                     boolean mainThread,
+                                     boolean viewer) {
+
+        boolean matches(Placeholder engine, @Nullable Component name, @Nullable List<Component> lore) {
+            return this.engine == engine
+                    && this.version == engine.version()
+                    && this.name == name
+                    && this.lore == lore;
+        }
+    }
+
+    /**
+     * Checks whether this item has to be rendered on the main thread, because its
+     * name or lore reference main-thread-only resolvers or PlaceholderAPI placeholders.
+     *
+     * @return {@code true} if {@link #render} must not run off the main thread
+     */
+    public boolean requiresMainThread() {
+        var engine = placeholderEngine;
+        if (engine == null) return false;
+        return templates(engine, data.getDisplayName(), data.getLore()).mainThread();
+    }
+
+    /**
+     * Checks whether this item renders differently per viewer, because it was
+     * {@linkplain #setPerViewer(boolean) marked so} or its name or lore reference
+     * per-viewer resolvers or PlaceholderAPI placeholders.
+     *
+     * @return {@code true} if shared GUIs must render this item for every viewer
+     */
+    public boolean isViewerSpecific() {
+        if (perViewer) return true;
+        var engine = placeholderEngine;
+        if (engine == null) return false;
+        return templates(engine, data.getDisplayName(), data.getLore()).viewer();
+    }
+
     public ItemStack itemStack(@Nullable OfflinePlayer player) {
         if (player == null || placeholderEngine == null) {
             return baseItemStack();
@@ -251,6 +377,7 @@ public final class GuiItem implements Cloneable {
             return new GuiItem(clonedItem)
                     .placeholderEngine(this.placeholderEngine)
                     .onClick(this.clickHandler)
+                    .setPerViewer(this.perViewer)
                     .key(this.key)
                     .setSlots(this.slots)
                     .applyMetadata(this.metadata);
@@ -1,8 +1,5 @@
 package xyz.overdyn.dyngui.items.minecraft;
 
-import com.destroystokyo.paper.profile.ProfileProperty;
-import com.mojang.authlib.GameProfile;
-import com.mojang.authlib.properties.Property;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import org.bukkit.Bukkit;
@@ -15,23 +12,30 @@ import org.bukkit.inventory.ItemFlag;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.LeatherArmorMeta;
 import org.bukkit.inventory.meta.SkullMeta;
+import org.bukkit.plugin.IllegalPluginAccessException;
+import xyz.overdyn.dyngui.DynGui;
+import xyz.overdyn.dyngui.cache.SkullProfile;
+import xyz.overdyn.dyngui.cache.SkullProfileService;
 import xyz.overdyn.dyngui.items.minecraft.meta.ItemData;
 
-import java.lang.reflect.Field;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+/**
+ * Default {@link ItemData} implementation backed by a template {@link ItemStack}.
+ *
+ * <p>The template is copy-on-write: every setter builds a modified copy and publishes
+ * it through a volatile field, so a published template is never mutated again and
+ * {@link #newItemStack()} can be called from any thread.</p>
+ */
 public class ItemMinecraft implements ItemData, Cloneable {
 
-    private static final boolean IS_PAPER = checkPaperPresence();
-    private static final Map<String, Object> PROFILE_CACHE = new ConcurrentHashMap<>();
     private static final LegacyComponentSerializer SERIALIZER = LegacyComponentSerializer.legacyAmpersand();
-    private static Field skullProfileField;
 
-    private ItemStack internalStack;
+    /** Published template snapshot, replaced as a whole on every change. */
+    private volatile ItemStack internalStack;
     private Material material = Material.STONE;
     private int amount = 1;
 
@@ -41,8 +45,11 @@ public class ItemMinecraft implements ItemData, Cloneable {
     private List<String> loreStrings;
 
     private String skullOwner;
-    private String skullTextureBase64;
-    private Object cachedProfile;
+    private volatile String skullTextureBase64;
+    private volatile SkullProfile cachedProfile;
+
+    /** Completed on the main thread once the pending skull texture is applied. */
+    private volatile CompletableFuture<Void> skullTexture = CompletableFuture.completedFuture(null);
 
     public String getSkullTextureBase64() {
         return skullTextureBase64;
@@ -53,7 +60,7 @@ public class ItemMinecraft implements ItemData, Cloneable {
     }
 
     public ItemMinecraft(ItemStack itemStack) {
-        this.internalStack = itemStack;
+        this.internalStack = itemStack.clone();
     }
 
     public ItemMinecraft(Material material) {
@@ -66,33 +73,37 @@ public class ItemMinecraft implements ItemData, Cloneable {
         this.amount = amount;
     }
 
-    private static boolean checkPaperPresence() {
-        try {
-            Class.forName("com.destroystokyo.paper.profile.PlayerProfile");
-            return true;
-        } catch (ClassNotFoundException e) {
-            return false;
-        }
+    /**
+     * Applies a change to a copy of the template and publishes the copy.
+     */
+    private synchronized void updateStack(Consumer<ItemStack> consumer) {
+        ItemStack next = internalStack.clone();
+        consumer.accept(next);
+        internalStack = next;
     }
 
     private void updateMeta(Consumer<org.bukkit.inventory.meta.ItemMeta> consumer) {
-        org.bukkit.inventory.meta.ItemMeta meta = internalStack.getItemMeta();
-        if (meta != null) {
-            consumer.accept(meta);
-            internalStack.setItemMeta(meta);
-        }
+        updateStack(stack -> {
+            org.bukkit.inventory.meta.ItemMeta meta = stack.getItemMeta();
+            if (meta != null) {
+                consumer.accept(meta);
+                stack.setItemMeta(meta);
+            }
+        });
     }
 
     @Override
     public void setMaterial(Material material) {
         this.material = material != null ? material : Material.STONE;
-        this.internalStack.setType(this.material);
+        Material type = this.material;
+        updateStack(stack -> stack.setType(type));
     }
 
     @Override
     public void setAmount(int amount) {
         this.amount = Math.max(1, amount);
-        this.internalStack.setAmount(this.amount);
+        int value = this.amount;
+        updateStack(stack -> stack.setAmount(value));
     }
 
     @Override
@@ -135,6 +146,13 @@ public class ItemMinecraft implements ItemData, Cloneable {
         });
     }
 
+    /**
+     * Sets a custom skull texture.
+     *
+     * <p>If the profile is already cached it is applied immediately. Otherwise the item
+     * shows a plain player head, the profile is built off the main thread and applied
+     * on the main thread; {@link #skullTextureReady()} completes afterwards.</p>
+     */
     @Override
     public void setSkullTextureBase64(String base64) {
         if (base64 == null) return;
@@ -142,44 +160,69 @@ public class ItemMinecraft implements ItemData, Cloneable {
         this.skullOwner = null;
         setMaterial(Material.PLAYER_HEAD);
 
-        CompletableFuture.runAsync(() -> this.cachedProfile = PROFILE_CACHE.computeIfAbsent(base64, this::createProfile)).thenRun(() -> updateMeta(meta -> {
-            if (meta instanceof SkullMeta sm) applySkullProfile(sm);
-        }));
-    }
-
-    private Object createProfile(String base64) {
-        UUID id = new UUID(base64.hashCode(), base64.hashCode());
-        if (IS_PAPER) {
-            var profile = Bukkit.createProfile(id, "CustomHead");
-            profile.setProperty(new ProfileProperty("textures", base64));
-            return profile;
-        } else {
-            GameProfile profile = new GameProfile(id, "CustomHead");
-            profile.getProperties().put("textures", new Property("textures", base64));
-            return profile;
+        var cached = SkullProfileService.cached(base64);
+        if (cached != null) {
+            applySkullProfile(cached);
+            skullTexture = CompletableFuture.completedFuture(null);
+            return;
         }
-    }
 
-    private void applySkullProfile(SkullMeta meta) {
-        if (cachedProfile == null) return;
-        if (IS_PAPER && cachedProfile instanceof com.destroystokyo.paper.profile.PlayerProfile pp) {
-            meta.setPlayerProfile(pp);
-        } else {
-            try {
-                if (skullProfileField == null) {
-                    skullProfileField = meta.getClass().getDeclaredField("profile");
-                    skullProfileField.setAccessible(true);
+        var ready = new CompletableFuture<Void>();
+        skullTexture = ready;
+        SkullProfileService.prefetch(base64).whenComplete((profile, error) -> {
+            boolean scheduled = runOnMain(() -> {
+                if (profile != null && base64.equals(skullTextureBase64)) {
+                    applySkullProfile(profile);
                 }
-                skullProfileField.set(meta, cachedProfile);
-            } catch (Exception ignored) {}
+                ready.complete(null);
+            });
+            // the plugin is disabled; nothing will apply the profile, but waiters must not hang
+            if (!scheduled) ready.complete(null);
+        });
+    }
+
+    private void applySkullProfile(SkullProfile profile) {
+        this.cachedProfile = profile;
+        updateMeta(meta -> {
+            if (meta instanceof SkullMeta sm) profile.applyTo(sm);
+        });
+    }
+
+    /**
+     * Runs a task on the main thread.
+     *
+     * @return {@code false} if the task was dropped because the plugin is disabled
+     */
+    private static boolean runOnMain(Runnable task) {
+        if (Bukkit.isPrimaryThread()) {
+            task.run();
+            return true;
+        }
+        var plugin = DynGui.getInstance().getPlugin();
+        if (!plugin.isEnabled()) return false;
+        try {
+            Bukkit.getScheduler().runTask(plugin, task);
+            return true;
+        } catch (IllegalPluginAccessException e) {
+            return false;
         }
     }
 
+    @Override
+    public CompletableFuture<Void> skullTextureReady() {
+        return skullTexture;
+    }
+
     @Override
     public ItemStack buildItemStack() {
         return internalStack;
     }
 
+    @Override
+    public ItemStack newItemStack() {
+        return internalStack.clone();
+    }
+
     public CompletableFuture<ItemStack> buildItemStackAsync() {
         return CompletableFuture.completedFuture(buildItemStack());
     }
@@ -236,6 +279,7 @@ public class ItemMinecraft implements ItemData, Cloneable {
         try {
             ItemMinecraft cloned = (ItemMinecraft) super.clone();
             cloned.internalStack = internalStack.clone();
+            if (!skullTexture.isDone()) cloned.setSkullTextureBase64(skullTextureBase64);
             return cloned;
         } catch (CloneNotSupportedException e) {
             throw new RuntimeException(e);
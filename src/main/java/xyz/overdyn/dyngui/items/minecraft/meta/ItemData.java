@@ -293,12 +293,39 @@ public interface ItemData extends Cloneable {
 
     String getSkullTextureBase64();
 
+    /**
+     * Returns a future completed on the main thread once the skull texture set via
+     * {@link #setSkullTextureBase64(String)} has been applied to the template.
+     *
+     * <p>Until then the item renders as a plain player head.</p>
+     *
+     * @return completed future if no texture is pending
+     */
+    default CompletableFuture<Void> skullTextureReady() {
+        return CompletableFuture.completedFuture(null);
+    }
+
     ItemMinecraft clone();
 
     /**
      * Builds a Bukkit {@link ItemStack} with all properties applied.
      *
+     * <p>The returned stack is the template itself; modifying it changes every later
+     * render. Use {@link #newItemStack()} to obtain a stack that may be modified.</p>
+     *
      * @return fully configured ItemStack
      */
     ItemStack buildItemStack();
+
+    /**
+     * Creates a fresh copy of the current template snapshot.
+     *
+     * <p>Implementations publish their template immutably, so this method may be called
+     * from any thread, concurrently with other renders and with setters on the main thread.</p>
+     *
+     * @return new ItemStack owned by the caller
+     */
+    default ItemStack newItemStack() {
+        return buildItemStack().clone();
+    }
 }
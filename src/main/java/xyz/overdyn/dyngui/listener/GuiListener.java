@@ -1,18 +1,22 @@
 package xyz.overdyn.dyngui.listener;
 
+import com.destroystokyo.paper.event.server.ServerTickEndEvent;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.entity.EntityPickupItemEvent;
 import org.bukkit.event.inventory.*;
 import org.bukkit.event.player.PlayerDropItemEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.inventory.Inventory;
-import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import xyz.overdyn.dyngui.DynGui;
 import xyz.overdyn.dyngui.abstracts.AbstractGui;
 import xyz.overdyn.dyngui.dupe.ItemMarker;
+import xyz.overdyn.dyngui.manager.SessionManager;
+import xyz.overdyn.dyngui.scheduler.TickEndQueue;
 
 public class GuiListener implements Listener {
 
@@ -63,20 +67,26 @@ public class GuiListener implements Listener {
 
     @EventHandler
     public void onLogin(@NotNull final PlayerJoinEvent event) {
-        DynGui.getInstance().getPlugin().getServer().getScheduler().runTaskLater(
-                DynGui.getInstance().getPlugin(),
-                () -> {
-                    for (final ItemStack itemStack : event.getPlayer().getInventory().getContents()) {
-                        if (itemStack == null) continue;
-                        if (!ItemMarker.isMarked(itemStack)) continue;
-
-                        event.getPlayer().getInventory().remove(itemStack);
-                    }
-                },
+        DynGui.getInstance().getTickWheel().schedule(
+                () -> ItemMarker.removeMarked(event.getPlayer().getInventory()),
                 10L
         );
     }
 
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(@NotNull final PlayerQuitEvent event) {
+        var player = event.getPlayer();
+        var gui = SessionManager.get(player);
+        if (gui != null) gui.handleClose(player);
+
+        SessionManager.unregister(player);
+    }
+
+    @EventHandler
+    public void onTickEnd(@NotNull final ServerTickEndEvent event) {
+        TickEndQueue.drain();
+    }
+
     @Nullable
     private static AbstractGui getHolder(Inventory inventory) {
         if (inventory == null) return null;
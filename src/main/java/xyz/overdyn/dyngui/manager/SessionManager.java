@@ -1,42 +1,141 @@
 package xyz.overdyn.dyngui.manager;
 
 import lombok.experimental.UtilityClass;
+import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import xyz.overdyn.dyngui.abstracts.AbstractGui;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * Registry of open GUI sessions keyed by player UUID.
+ *
+ * <p>Writes happen on the main thread; reads are lock-free and safe from async code.
+ * Sessions are dropped on GUI close and on {@code PlayerQuitEvent}, so no player
+ * object is retained after a disconnect.</p>
+ */
 @UtilityClass
 public class SessionManager {
 
-    public final Map<Player, AbstractGui> sessions = new HashMap<>();
+    private final Map<UUID, AbstractGui> sessions = new ConcurrentHashMap<>();
 
-    public void register(Player player, AbstractGui gui) {
-        sessions.put(player, gui);
+    /** Live session count per concrete GUI class. */
+    private final Map<Class<? extends AbstractGui>, AtomicInteger> sessionsByClass = new ConcurrentHashMap<>();
+
+    public void register(@NotNull Player player, @NotNull AbstractGui gui) {
+        var previous = sessions.put(player.getUniqueId(), gui);
+        if (previous == gui) return;
+        if (previous != null) decrement(previous);
+        increment(gui);
+    }
+
+    public void unregister(@NotNull Player player) {
+        unregister(player.getUniqueId());
+    }
+
+    public void unregister(@NotNull UUID playerId) {
+        var removed = sessions.remove(playerId);
+        if (removed != null) decrement(removed);
+    }
+
+    /**
+     * Removes the session only if the player is still bound to the given GUI.
+     *
+     * @param player player whose session ends
+     * @param gui    GUI that is being closed
+     */
+    public void unregister(@NotNull Player player, @NotNull AbstractGui gui) {
+        if (sessions.remove(player.getUniqueId(), gui)) decrement(gui);
+    }
+
+    public @Nullable AbstractGui get(@NotNull Player player) {
+        return sessions.get(player.getUniqueId());
+    }
+
+    public @Nullable AbstractGui get(@NotNull UUID playerId) {
+        return sessions.get(playerId);
     }
 
-    public void unregister(Player player) {
-        sessions.remove(player);
+    public boolean has(@NotNull Player player) {
+        return sessions.containsKey(player.getUniqueId());
     }
 
-    public AbstractGui get(Player player) {
-        return sessions.get(player);
+    public boolean has(@NotNull UUID playerId) {
+        return sessions.containsKey(playerId);
     }
 
-    public boolean has(Player player) {
-        return sessions.containsKey(player);
+    /**
+     * Returns a read-only live view of all sessions.
+     *
+     * @return player UUID -> open GUI
+     */
+    public @NotNull Map<UUID, AbstractGui> sessions() {
+        return Collections.unmodifiableMap(sessions);
+    }
+
+    /**
+     * Returns the total number of open sessions.
+     *
+     * @return session count
+     */
+    public int count() {
+        return sessions.size();
+    }
+
+    /**
+     * Returns the number of open sessions of exactly the given GUI class.
+     *
+     * @param type concrete GUI class
+     * @return session count for that class
+     */
+    public int count(@NotNull Class<? extends AbstractGui> type) {
+        var counter = sessionsByClass.get(type);
+        return counter != null ? counter.get() : 0;
+    }
+
+    /**
+     * Returns a snapshot of live session counts per concrete GUI class.
+     *
+     * @return GUI class -> session count, classes without sessions omitted
+     */
+    public @NotNull Map<Class<? extends AbstractGui>, Integer> counts() {
+        Map<Class<? extends AbstractGui>, Integer> snapshot = new HashMap<>();
+        sessionsByClass.forEach((type, counter) -> {
+            int value = counter.get();
+            if (value > 0) snapshot.put(type, value);
+        });
+        return snapshot;
     }
 
     public void dispose() {
         var snapshot = new HashMap<>(sessions);
-        sessions.clear();
-        snapshot.forEach((player, gui) -> gui.close(player));
+        clear();
+        snapshot.forEach((playerId, gui) -> {
+            var player = Bukkit.getPlayer(playerId);
+            if (player != null) gui.close(player);
+        });
     }
 
 
     public void clear() {
         sessions.clear();
+        sessionsByClass.clear();
+    }
+
+    private void increment(@NotNull AbstractGui gui) {
+        sessionsByClass.computeIfAbsent(gui.getClass(), type -> new AtomicInteger()).incrementAndGet();
+    }
+
+    private void decrement(@NotNull AbstractGui gui) {
+        var counter = sessionsByClass.get(gui.getClass());
+        if (counter != null) counter.decrementAndGet();
     }
 
 }
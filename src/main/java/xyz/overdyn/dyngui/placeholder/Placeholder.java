@@ -3,6 +3,8 @@ package xyz.overdyn.dyngui.placeholder;
 import net.kyori.adventure.text.Component;
 import org.jetbrains.annotations.NotNull;
 import xyz.overdyn.dyngui.placeholder.context.PlaceholderContext;
+import xyz.overdyn.dyngui.placeholder.template.ComponentTemplate;
+import xyz.overdyn.dyngui.placeholder.template.TextTemplate;
 
 import javax.annotation.RegEx;
 import java.util.List;
@@ -31,6 +33,30 @@ public interface Placeholder {
     void register(@NotNull String placeholder,
                   @NotNull Function<@NotNull PlaceholderContext, @NotNull String> resolver);
 
+    /**
+     * Registers a placeholder whose resolver must run on the server main thread,
+     * e.g. because it reads world or entity state.
+     *
+     * <p>Items referencing such a placeholder are never rendered off the main thread.</p>
+     *
+     * @param placeholder key literal
+     * @param resolver    function producing resolved value based on context
+     */
+    void registerMainThread(@NotNull String placeholder,
+                            @NotNull Function<@NotNull PlaceholderContext, @NotNull String> resolver);
+
+    /**
+     * Registers a placeholder whose value depends on the player viewing the item.
+     *
+     * <p>In shared GUIs, items referencing such a placeholder are rendered for every
+     * viewer separately; all other items are rendered once for all viewers.</p>
+     *
+     * @param placeholder key literal
+     * @param resolver    function producing resolved value based on context
+     */
+    void registerPerViewer(@NotNull String placeholder,
+                           @NotNull Function<@NotNull PlaceholderContext, @NotNull String> resolver);
+
     /**
      * Registers a static placeholder that always returns the same value.
      *
@@ -107,6 +133,82 @@ public interface Placeholder {
     @NotNull
     Component process(@NotNull Component input, @NotNull PlaceholderContext context);
 
+    /**
+     * Compiles a string into literal segments and placeholder references.
+     *
+     * <p>The compiled form is cached by the engine and stays valid until a
+     * placeholder is registered; check {@link #version()} to detect that.</p>
+     *
+     * @param input raw string
+     * @return compiled template
+     */
+    @NotNull
+    TextTemplate compile(@NotNull String input);
+
+    /**
+     * Compiles a component tree into a template that renders in a single pass.
+     *
+     * @param input component
+     * @return compiled template
+     */
+    @NotNull
+    ComponentTemplate compile(@NotNull Component input);
+
+    /**
+     * Renders a compiled string template, then applies regex placeholders and PlaceholderAPI.
+     *
+     * @param template compiled template obtained from {@link #compile(String)}
+     * @param context  resolution context
+     * @return processed string
+     */
+    @NotNull
+    String processString(@NotNull TextTemplate template, @NotNull PlaceholderContext context);
+
+    /**
+     * Renders a compiled component template, then applies regex placeholders and PlaceholderAPI.
+     *
+     * @param template compiled template obtained from {@link #compile(Component)}
+     * @param context  resolution context
+     * @return processed component
+     */
+    @NotNull
+    Component process(@NotNull ComponentTemplate template, @NotNull PlaceholderContext context);
+
+    /**
+     * Checks whether rendering the given template has to happen on the main thread.
+     *
+     * <p>This is the case when the template references a resolver registered via
+     * {@link #registerMainThread}, or when PlaceholderAPI is present and the template
+     * contains {@code %...%} text left for it, as PlaceholderAPI expansions are not
+     * thread-safe in general. Regex resolvers must be thread-safe to be used off-thread.</p>
+     *
+     * @param template compiled template obtained from {@link #compile(Component)}
+     * @return {@code true} if the template must be rendered on the main thread
+     */
+    boolean requiresMainThread(@NotNull ComponentTemplate template);
+
+    /**
+     * Checks whether the given template renders differently per viewer.
+     *
+     * <p>This is the case when the template references a resolver registered via
+     * {@link #registerPerViewer}, or when PlaceholderAPI is present and the template
+     * contains {@code %...%} text left for it. Other literal and regex resolvers are
+     * treated as viewer-independent.</p>
+     *
+     * @param template compiled template obtained from {@link #compile(Component)}
+     * @return {@code true} if the template depends on the viewer
+     */
+    boolean requiresViewer(@NotNull ComponentTemplate template);
+
+    /**
+     * Returns a counter that changes every time a placeholder is registered.
+     *
+     * <p>Templates compiled under an older version may miss newly registered placeholders.</p>
+     *
+     * @return registration version
+     */
+    long version();
+
     /**
      * Factory method for obtaining a new placeholder engine.
      *
@@ -8,11 +8,17 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import xyz.overdyn.dyngui.DynGui;
 import xyz.overdyn.dyngui.placeholder.context.PlaceholderContext;
+import xyz.overdyn.dyngui.placeholder.template.ComponentTemplate;
+import xyz.overdyn.dyngui.placeholder.template.TextTemplate;
 
 import javax.annotation.RegEx;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.regex.Pattern;
@@ -23,16 +29,48 @@ public class PlaceholderImpl implements Placeholder {
 
     private static final Pattern PLACEHOLDER_PATTERN = Pattern.compile("%([^%]+)%");
 
-    /** simple %key% replacements */
-    private final Map<Pattern, @NotNull Function<PlaceholderContext, String>> literalPlaceholders = new LinkedHashMap<>();
+    /** upper bound for each compiled template cache before it is flushed */
+    private static final int MAX_CACHED_TEMPLATES = 2048;
 
-    /** regex replacements */
-    private final Map<Pattern, @NotNull BiFunction<String, PlaceholderContext, String>> regexPlaceholders = new LinkedHashMap<>();
+    /** simple %key% replacements, copy-on-write so renders on other threads see a stable map */
+    private volatile Map<String, @NotNull Function<PlaceholderContext, String>> literalPlaceholders = new LinkedHashMap<>();
+
+    /** regex replacements, copy-on-write */
+    private volatile Map<Pattern, @NotNull BiFunction<String, PlaceholderContext, String>> regexPlaceholders = new LinkedHashMap<>();
+
+    /** resolvers registered via {@link #registerMainThread}, by identity */
+    private volatile Set<Function<PlaceholderContext, String>> mainThreadResolvers = Set.of();
+
+    /** resolvers registered via {@link #registerPerViewer}, by identity */
+    private volatile Set<Function<PlaceholderContext, String>> perViewerResolvers = Set.of();
+
+    /** compiled templates, invalidated on every literal registration */
+    private final Map<String, TextTemplate> textTemplates = new ConcurrentHashMap<>();
+    private final Map<Component, ComponentTemplate> componentTemplates = new ConcurrentHashMap<>();
+
+    private volatile long version;
 
     @Override
-    public void register(@NotNull String placeholder,
-                         @NotNull Function<PlaceholderContext, String> resolver) {
-        literalPlaceholders.put(Pattern.compile(placeholder, Pattern.LITERAL), resolver);
+    public synchronized void register(@NotNull String placeholder,
+                                      @NotNull Function<PlaceholderContext, String> resolver) {
+        var next = new LinkedHashMap<>(literalPlaceholders);
+        next.put(placeholder, resolver);
+        literalPlaceholders = next;
+        invalidateTemplates();
+    }
+
+    @Override
+    public synchronized void registerMainThread(@NotNull String placeholder,
+                                                @NotNull Function<PlaceholderContext, String> resolver) {
+        mainThreadResolvers = union(mainThreadResolvers, Set.of(resolver));
+        register(placeholder, resolver);
+    }
+
+    @Override
+    public synchronized void registerPerViewer(@NotNull String placeholder,
+                                               @NotNull Function<PlaceholderContext, String> resolver) {
+        perViewerResolvers = union(perViewerResolvers, Set.of(resolver));
+        register(placeholder, resolver);
     }
 
     @Override
@@ -52,17 +90,106 @@ public class PlaceholderImpl implements Placeholder {
     }
 
     @Override
-    public void registerRegex(@NotNull Pattern pattern,
-                              @NotNull BiFunction<String, PlaceholderContext, String> resolver) {
-        regexPlaceholders.put(pattern, resolver);
+    public synchronized void registerRegex(@NotNull Pattern pattern,
+                                           @NotNull BiFunction<String, PlaceholderContext, String> resolver) {
+        var next = new LinkedHashMap<>(regexPlaceholders);
+        next.put(pattern, resolver);
+        regexPlaceholders = next;
     }
 
     @Override
-    public void addAll(@NotNull Placeholder placeholderEngine) {
+    public synchronized void addAll(@NotNull Placeholder placeholderEngine) {
         PlaceholderImpl engine = (PlaceholderImpl) placeholderEngine;
 
-        this.regexPlaceholders.putAll(engine.regexPlaceholders);
-        this.literalPlaceholders.putAll(engine.literalPlaceholders);
+        var regex = new LinkedHashMap<>(regexPlaceholders);
+        regex.putAll(engine.regexPlaceholders);
+        regexPlaceholders = regex;
+
+        var literal = new LinkedHashMap<>(literalPlaceholders);
+        literal.putAll(engine.literalPlaceholders);
+        literalPlaceholders = literal;
+
+        mainThreadResolvers = union(mainThreadResolvers, engine.mainThreadResolvers);
+        perViewerResolvers = union(perViewerResolvers, engine.perViewerResolvers);
+
+        invalidateTemplates();
+    }
+
+    private static Set<Function<PlaceholderContext, String>> union(@NotNull Set<Function<PlaceholderContext, String>> current,
+                                                                   @NotNull Set<Function<PlaceholderContext, String>> added) {
+        Set<Function<PlaceholderContext, String>> next = Collections.newSetFromMap(new IdentityHashMap<>());
+        next.addAll(current);
+        next.addAll(added);
+        return Collections.unmodifiableSet(next);
+    }
+
+    private void invalidateTemplates() {
+        textTemplates.clear();
+        componentTemplates.clear();
+        version++;
+    }
+
+    @Override
+    public long version() {
+        return version;
+    }
+
+    @Override
+    public boolean requiresMainThread(@NotNull ComponentTemplate template) {
+        return references(template, mainThreadResolvers);
+    }
+
+    @Override
+    public boolean requiresViewer(@NotNull ComponentTemplate template) {
+        return references(template, perViewerResolvers);
+    }
+
+    /**
+     * Checks whether a template uses one of the given resolvers or, with PlaceholderAPI
+     * present, contains {@code %...%} text left for it.
+     */
+    private boolean references(@NotNull ComponentTemplate template,
+                               @NotNull Set<Function<PlaceholderContext, String>> resolvers) {
+        if (template.hasExternalPlaceholders() && DynGui.getInstance().isSupportedPlaceholder()) return true;
+        if (resolvers.isEmpty()) return false;
+
+        boolean[] required = {false};
+        template.forEachText(text -> {
+            if (required[0]) return;
+            for (var resolver : text.resolvers()) {
+                if (resolvers.contains(resolver)) {
+                    required[0] = true;
+                    return;
+                }
+            }
+        });
+        return required[0];
+    }
+
+    /**
+     * Checks the literal segments of a text for {@code %...%} placeholders left to PlaceholderAPI.
+     */
+    private static boolean hasPapiPlaceholders(@NotNull TextTemplate text) {
+        for (var literal : text.literals()) {
+            if (literal.indexOf('%') >= 0 && PLACEHOLDER_PATTERN.matcher(literal).find()) return true;
+        }
+        return false;
+    }
+
+    @Override
+    public @NotNull TextTemplate compile(@NotNull String input) {
+        if (textTemplates.size() >= MAX_CACHED_TEMPLATES) textTemplates.clear();
+        return textTemplates.computeIfAbsent(input, this::compileText);
+    }
+
+    @Override
+    public @NotNull ComponentTemplate compile(@NotNull Component input) {
+        if (componentTemplates.size() >= MAX_CACHED_TEMPLATES) componentTemplates.clear();
+        return componentTemplates.computeIfAbsent(input, key -> ComponentTemplate.compile(key, this::compileText, PlaceholderImpl::hasPapiPlaceholders));
+    }
+
+    private TextTemplate compileText(@NotNull String input) {
+        return TextTemplate.compile(input, literalPlaceholders);
     }
 
     @Override
@@ -73,14 +200,14 @@ public class PlaceholderImpl implements Placeholder {
             return input;
         }
 
-        String current = input;
+        return processString(compile(input), context);
+    }
 
-        // literal placeholders
-        for (Map.Entry<Pattern, Function<PlaceholderContext, String>> entry : literalPlaceholders.entrySet()) {
-            current = entry.getKey()
-                    .matcher(current)
-                    .replaceAll(entry.getValue().apply(context));
-        }
+    @Override
+    public @NotNull String processString(@NotNull TextTemplate template,
+                                         @NotNull PlaceholderContext context) {
+        // literal placeholders, single pass
+        String current = template.render(context);
 
         // regex placeholders
         for (Map.Entry<Pattern, BiFunction<String, PlaceholderContext, String>> entry : regexPlaceholders.entrySet()) {
@@ -113,17 +240,14 @@ public class PlaceholderImpl implements Placeholder {
     @Override
     public @NotNull Component process(@NotNull Component input,
                                       @NotNull PlaceholderContext context) {
-        Component current = input;
-
-        for (Map.Entry<Pattern, Function<PlaceholderContext, String>> entry : literalPlaceholders.entrySet()) {
-            Pattern pattern = entry.getKey();
-            Function<PlaceholderContext, String> resolver = entry.getValue();
+        return process(compile(input), context);
+    }
 
-            current = current.replaceText(builder -> builder
-                    .match(pattern)
-                    .replacement(resolver.apply(context))
-            );
-        }
+    @Override
+    public @NotNull Component process(@NotNull ComponentTemplate template,
+                                      @NotNull PlaceholderContext context) {
+        // literal placeholders, single pass
+        Component current = template.render(context);
 
         for (Map.Entry<Pattern, BiFunction<String, PlaceholderContext, String>> entry : regexPlaceholders.entrySet()) {
             Pattern pattern = entry.getKey();
@@ -162,4 +286,4 @@ public class PlaceholderImpl implements Placeholder {
                 })
                 .build());
     }
-}
\ No newline at end of file
+}
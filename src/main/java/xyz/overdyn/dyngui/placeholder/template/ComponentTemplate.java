@@ -0,0 +1,216 @@
+package xyz.overdyn.dyngui.placeholder.template;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.text.event.HoverEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import xyz.overdyn.dyngui.placeholder.context.PlaceholderContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Compiled form of an Adventure {@link Component} containing literal placeholders.
+ *
+ * <p>The component tree is walked once at compile time. Every text content,
+ * child, translation argument and {@code show_text} hover that references a
+ * placeholder keeps a {@link TextTemplate}; everything else is reused as-is.
+ * Rendering rebuilds only the nodes on a path to a placeholder, in a single
+ * pass, instead of running one {@code replaceText} per registered placeholder.</p>
+ *
+ * <p>Compilation also records whether any text in the tree, dynamic or not, carries
+ * {@code %...%} placeholders for an external resolver such as PlaceholderAPI; see
+ * {@link #hasExternalPlaceholders()}.</p>
+ *
+ * <p>Instances are immutable and safe to share between threads, provided the
+ * referenced resolvers are.</p>
+ */
+public final class ComponentTemplate {
+
+    private final @NotNull Component source;
+    private final @Nullable TextTemplate content;
+    private final @Nullable ComponentTemplate[] children;
+    private final @Nullable ComponentTemplate[] arguments;
+    private final @Nullable ComponentTemplate hover;
+    private final boolean externalPlaceholders;
+
+    private ComponentTemplate(@NotNull Component source,
+                              @Nullable TextTemplate content,
+                              @Nullable ComponentTemplate[] children,
+                              @Nullable ComponentTemplate[] arguments,
+                              @Nullable ComponentTemplate hover,
+                              boolean externalPlaceholders) {
+        this.source = source;
+        this.content = content;
+        this.children = children;
+        this.arguments = arguments;
+        this.hover = hover;
+        this.externalPlaceholders = externalPlaceholders;
+    }
+
+    /**
+     * Compiles a component tree.
+     *
+     * @param source       component to compile
+     * @param textCompiler compiler used for every text content in the tree
+     * @return compiled template
+     */
+    public static @NotNull ComponentTemplate compile(@NotNull Component source,
+                                                     @NotNull Function<String, TextTemplate> textCompiler) {
+        return compile(source, textCompiler, text -> false);
+    }
+
+    /**
+     * Compiles a component tree, flagging text matched by an external placeholder syntax.
+     *
+     * @param source       component to compile
+     * @param textCompiler compiler used for every text content in the tree
+     * @param external     tests every compiled text content, constant or not, for placeholders
+     *                     left to an external resolver
+     * @return compiled template
+     */
+    @SuppressWarnings("deprecation")
+    public static @NotNull ComponentTemplate compile(@NotNull Component source,
+                                                     @NotNull Function<String, TextTemplate> textCompiler,
+                                                     @NotNull Predicate<TextTemplate> external) {
+        TextTemplate content = null;
+        boolean externalPlaceholders = false;
+        if (source instanceof TextComponent text) {
+            var compiled = textCompiler.apply(text.content());
+            if (!compiled.isConstant()) content = compiled;
+            externalPlaceholders = external.test(compiled);
+        }
+
+        var children = compileAll(source.children(), textCompiler, external);
+        var arguments = source instanceof TranslatableComponent translatable
+                ? compileAll(translatable.args(), textCompiler, external)
+                : null;
+        externalPlaceholders |= anyExternal(children) || anyExternal(arguments);
+
+        ComponentTemplate hover = null;
+        var hoverEvent = source.hoverEvent();
+        if (hoverEvent != null && hoverEvent.action() == HoverEvent.Action.SHOW_TEXT) {
+            var compiled = compile((Component) hoverEvent.value(), textCompiler, external);
+            if (!compiled.isConstant()) hover = compiled;
+            externalPlaceholders |= compiled.externalPlaceholders;
+        }
+
+        return new ComponentTemplate(source, content,
+                retained(children), arguments != null ? retained(arguments) : null, hover, externalPlaceholders);
+    }
+
+    /**
+     * Compiles a list of components.
+     */
+    private static @NotNull ComponentTemplate[] compileAll(@NotNull List<Component> components,
+                                                           @NotNull Function<String, TextTemplate> textCompiler,
+                                                           @NotNull Predicate<TextTemplate> external) {
+        ComponentTemplate[] result = new ComponentTemplate[components.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = compile(components.get(i), textCompiler, external);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the compiled components, or {@code null} when none of them is dynamic.
+     */
+    private static @Nullable ComponentTemplate[] retained(@NotNull ComponentTemplate[] templates) {
+        for (var template : templates) {
+            if (!template.isConstant()) return templates;
+        }
+        return null;
+    }
+
+    private static boolean anyExternal(@Nullable ComponentTemplate[] templates) {
+        if (templates == null) return false;
+        for (var template : templates) {
+            if (template.externalPlaceholders) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Renders this template for the given context.
+     *
+     * @param context resolution context
+     * @return rendered component; the source instance itself if nothing is dynamic
+     */
+    @SuppressWarnings("deprecation")
+    public @NotNull Component render(@NotNull PlaceholderContext context) {
+        if (isConstant()) return source;
+
+        Component out = source;
+        if (content != null) {
+            out = ((TextComponent) out).content(content.render(context));
+        }
+        if (children != null) {
+            out = out.children(renderAll(children, context));
+        }
+        if (arguments != null) {
+            out = ((TranslatableComponent) out).args(renderAll(arguments, context));
+        }
+        if (hover != null) {
+            out = out.hoverEvent(HoverEvent.showText(hover.render(context)));
+        }
+        return out;
+    }
+
+    private static List<Component> renderAll(@NotNull ComponentTemplate[] templates,
+                                             @NotNull PlaceholderContext context) {
+        List<Component> rendered = new ArrayList<>(templates.length);
+        for (var template : templates) {
+            rendered.add(template.render(context));
+        }
+        return rendered;
+    }
+
+    /**
+     * Visits every text template referenced anywhere in this component tree.
+     *
+     * @param visitor consumer receiving each dynamic text template
+     */
+    public void forEachText(@NotNull Consumer<TextTemplate> visitor) {
+        if (content != null) visitor.accept(content);
+        if (children != null) {
+            for (var child : children) child.forEachText(visitor);
+        }
+        if (arguments != null) {
+            for (var argument : arguments) argument.forEachText(visitor);
+        }
+        if (hover != null) hover.forEachText(visitor);
+    }
+
+    /**
+     * Returns whether any text in the tree, including text without own placeholders,
+     * matched the external placeholder test given at compile time.
+     *
+     * @return {@code true} if rendering depends on an external resolver
+     */
+    public boolean hasExternalPlaceholders() {
+        return externalPlaceholders;
+    }
+
+    /**
+     * Returns whether this component references no placeholders at all.
+     *
+     * @return {@code true} if rendering always yields the source component
+     */
+    public boolean isConstant() {
+        return content == null && children == null && arguments == null && hover == null;
+    }
+
+    /**
+     * Returns the component this template was compiled from.
+     *
+     * @return source component
+     */
+    public @NotNull Component source() {
+        return source;
+    }
+}
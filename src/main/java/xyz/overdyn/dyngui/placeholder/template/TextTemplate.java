@@ -0,0 +1,166 @@
+package xyz.overdyn.dyngui.placeholder.template;
+
+import org.jetbrains.annotations.NotNull;
+import xyz.overdyn.dyngui.placeholder.context.PlaceholderContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Compiled form of a string containing literal placeholders.
+ *
+ * <p>The source string is parsed once into literal segments and placeholder
+ * references. Rendering is then a single pass over the segments that only
+ * calls the resolvers actually referenced by the source.</p>
+ *
+ * <p>Instances are immutable and safe to share between threads, provided the
+ * referenced resolvers are.</p>
+ */
+public final class TextTemplate {
+
+    private final @NotNull String source;
+
+    /** Literal segments; always one more than {@link #resolvers}. */
+    private final @NotNull String[] literals;
+
+    /** Resolvers placed between consecutive literal segments. */
+    private final @NotNull Function<PlaceholderContext, String>[] resolvers;
+
+    private TextTemplate(@NotNull String source,
+                         @NotNull String[] literals,
+                         @NotNull Function<PlaceholderContext, String>[] resolvers) {
+        this.source = source;
+        this.literals = literals;
+        this.resolvers = resolvers;
+    }
+
+    /**
+     * Compiles a string against the given literal placeholders.
+     *
+     * <p>Placeholders are matched in iteration order of the map, mirroring the
+     * order in which they were registered. Resolved values are never re-scanned
+     * for further placeholders.</p>
+     *
+     * @param source       raw string
+     * @param placeholders literal placeholder key -> resolver
+     * @return compiled template
+     */
+    @SuppressWarnings("unchecked")
+    public static @NotNull TextTemplate compile(@NotNull String source,
+                                                @NotNull Map<String, Function<PlaceholderContext, String>> placeholders) {
+        List<Object> parts = null;
+
+        for (var entry : placeholders.entrySet()) {
+            String key = entry.getKey();
+            if (key.isEmpty() || !source.contains(key)) continue;
+
+            if (parts == null) {
+                parts = new ArrayList<>();
+                parts.add(source);
+            }
+            parts = split(parts, key, entry.getValue());
+        }
+
+        if (parts == null) {
+            return new TextTemplate(source, new String[]{source}, new Function[0]);
+        }
+
+        List<String> literals = new ArrayList<>();
+        List<Function<PlaceholderContext, String>> resolvers = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+
+        for (Object part : parts) {
+            if (part instanceof String text) {
+                literal.append(text);
+            } else {
+                literals.add(literal.toString());
+                literal.setLength(0);
+                resolvers.add((Function<PlaceholderContext, String>) part);
+            }
+        }
+        literals.add(literal.toString());
+
+        return new TextTemplate(source, literals.toArray(new String[0]), resolvers.toArray(new Function[0]));
+    }
+
+    /**
+     * Splits every literal part around occurrences of {@code key}.
+     */
+    private static List<Object> split(List<Object> parts, String key, Function<PlaceholderContext, String> resolver) {
+        List<Object> result = new ArrayList<>(parts.size() + 2);
+
+        for (Object part : parts) {
+            if (!(part instanceof String text)) {
+                result.add(part);
+                continue;
+            }
+
+            int from = 0;
+            int at;
+            while ((at = text.indexOf(key, from)) >= 0) {
+                result.add(text.substring(from, at));
+                result.add(resolver);
+                from = at + key.length();
+            }
+            result.add(text.substring(from));
+        }
+
+        return result;
+    }
+
+    /**
+     * Renders this template for the given context.
+     *
+     * @param context resolution context
+     * @return rendered string
+     */
+    public @NotNull String render(@NotNull PlaceholderContext context) {
+        if (resolvers.length == 0) return source;
+
+        StringBuilder builder = new StringBuilder(source.length() + 16 * resolvers.length);
+        for (int i = 0; i < resolvers.length; i++) {
+            builder.append(literals[i]);
+            builder.append(resolvers[i].apply(context));
+        }
+        builder.append(literals[resolvers.length]);
+        return builder.toString();
+    }
+
+    /**
+     * Returns whether this template references no placeholders at all.
+     *
+     * @return {@code true} if rendering always yields the source string
+     */
+    public boolean isConstant() {
+        return resolvers.length == 0;
+    }
+
+    /**
+     * Returns the resolvers referenced by this template, in render order.
+     *
+     * @return referenced resolvers
+     */
+    public @NotNull List<Function<PlaceholderContext, String>> resolvers() {
+        return List.of(resolvers);
+    }
+
+    /**
+     * Returns the literal segments around the referenced resolvers.
+     *
+     * @return literal segments, one more than {@link #resolvers()}
+     */
+    public @NotNull List<String> literals() {
+        return List.of(literals);
+    }
+
+    /**
+     * Returns the string this template was compiled from.
+     *
+     * @return source string
+     */
+    public @NotNull String source() {
+        return source;
+    }
+}
@@ -15,6 +15,9 @@ import java.util.function.Consumer;
  *   <li>Tracks created tasks so they can be cancelled in bulk</li>
  *   <li>Provides basic cleanup utilities for cancelled tasks</li>
  * </ul>
+ *
+ * <p>Delayed and repeating tasks are placed in the shared {@link TickWheel} rather than
+ * in the Bukkit scheduler, so a scheduler instance itself costs no Bukkit task.</p>
  */
 public interface TaskScheduler {
 
@@ -147,7 +150,8 @@ public interface TaskScheduler {
 
     /**
      * Removes all tasks from the internal collection that are already cancelled.
-     * Does not cancel any tasks by itself.
+     * Does not cancel any tasks by itself. Finished tasks release themselves, so
+     * calling this is normally unnecessary.
      */
     void cleanup();
 }
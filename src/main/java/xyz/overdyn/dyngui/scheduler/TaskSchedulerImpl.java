@@ -2,59 +2,42 @@ package xyz.overdyn.dyngui.scheduler;
 
 import org.bukkit.Bukkit;
 import org.bukkit.plugin.java.JavaPlugin;
-import org.bukkit.scheduler.BukkitScheduler;
 import org.bukkit.scheduler.BukkitTask;
 import org.jetbrains.annotations.NotNull;
 import xyz.overdyn.dyngui.DynGui;
 
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
+/**
+ * Lightweight {@link TaskScheduler} handle onto the shared {@link TickWheel}.
+ *
+ * <p>Creating a handle does not start any Bukkit task. Delayed and repeating tasks
+ * are placed in the wheel and tracked here, so {@link #cancelAll()} releases all of
+ * them at once. Tasks remove themselves from the handle when they finish.</p>
+ */
 public class TaskSchedulerImpl implements TaskScheduler {
 
     private final JavaPlugin PLUGIN;
-    private final BukkitScheduler SCHEDULER = Bukkit.getScheduler();
-    private final Set<BukkitTask> tasks = Collections.synchronizedSet(new HashSet<>());
+    private final TickWheel WHEEL;
+    private final Set<BukkitTask> tasks = ConcurrentHashMap.newKeySet();
 
     public TaskSchedulerImpl(DynGui dynGui) {
         this.PLUGIN = dynGui.getPlugin();
-
-        SCHEDULER.runTaskTimer(PLUGIN, this::cleanup, 100L, 100L);
-    }
-
-    private void register(BukkitTask task) {
-        if (task != null) tasks.add(task);
+        this.WHEEL = dynGui.getTickWheel();
     }
 
     private BukkitTask trackTask(@NotNull Runnable task, long delay, long period, boolean store) {
-        if (period > 0) {
-            BukkitTask t = SCHEDULER.runTaskTimer(PLUGIN, task, delay, period);
-            if (store) register(t);
-            return t;
-        } else if (delay > 0) {
-            BukkitTask t = SCHEDULER.runTaskLater(PLUGIN, task, delay);
-            if (store) register(t);
-            return t;
-        } else {
-            // Одноразовая задача без delay
-            return SCHEDULER.runTask(PLUGIN, task);
-        }
+        return WHEEL.schedule(task, delay, period, false, store ? tasks : null);
     }
 
     private BukkitTask trackTaskAsync(@NotNull Runnable task, long delay, long period, boolean store) {
-        if (period > 0) {
-            BukkitTask t = SCHEDULER.runTaskTimerAsynchronously(PLUGIN, task, delay, period);
-            if (store) register(t);
-            return t;
-        } else if (delay > 0) {
-            BukkitTask t = SCHEDULER.runTaskLaterAsynchronously(PLUGIN, task, delay);
-            if (store) register(t);
-            return t;
-        } else {
-            return SCHEDULER.runTaskAsynchronously(PLUGIN, task);
+        if (delay <= 0 && period <= 0) {
+            return Bukkit.getScheduler().runTaskAsynchronously(PLUGIN, task);
         }
+        return WHEEL.schedule(task, delay, period, true, store ? tasks : null);
     }
 
     @Override
@@ -125,18 +108,15 @@ public class TaskSchedulerImpl implements TaskScheduler {
 
     @Override
     public @NotNull Set<BukkitTask> getTasks() {
-        cleanup();
         return Collections.unmodifiableSet(tasks);
     }
 
     @Override
     public void cancelAll() {
-        synchronized (tasks) {
-            for (BukkitTask task : tasks) {
-                if (!task.isCancelled()) task.cancel();
-            }
-            tasks.clear();
+        for (BukkitTask task : tasks) {
+            task.cancel();
         }
+        tasks.clear();
     }
 
     @Override
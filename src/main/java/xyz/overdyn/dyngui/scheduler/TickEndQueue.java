@@ -0,0 +1,69 @@
+package xyz.overdyn.dyngui.scheduler;
+
+import org.jetbrains.annotations.NotNull;
+import xyz.overdyn.dyngui.DynGui;
+
+import java.util.ArrayDeque;
+import java.util.logging.Level;
+
+/**
+ * Main thread queue of actions run once at the end of the current server tick.
+ *
+ * <p>Drained by Paper's {@code ServerTickEndEvent}. As a fallback, e.g. when the event
+ * is not fired, a one-shot wheel task drains whatever is still queued at the start of
+ * the next tick. Callers are expected to deduplicate their own submissions.</p>
+ */
+public final class TickEndQueue {
+
+    private static final ArrayDeque<Runnable> QUEUE = new ArrayDeque<>();
+    private static boolean fallbackScheduled;
+
+    private TickEndQueue() {
+    }
+
+    /**
+     * Queues an action for the end of the current tick. Main thread only.
+     *
+     * @param action action to run
+     */
+    public static void enqueue(@NotNull Runnable action) {
+        QUEUE.add(action);
+        if (!fallbackScheduled) {
+            fallbackScheduled = true;
+            DynGui.getInstance().getTickWheel().schedule(TickEndQueue::drain, 1L);
+        }
+    }
+
+    /**
+     * Runs every queued action, including actions queued while draining.
+     */
+    public static void drain() {
+        fallbackScheduled = false;
+        Runnable action;
+        while ((action = QUEUE.poll()) != null) {
+            try {
+                action.run();
+            } catch (Throwable throwable) {
+                DynGui.getInstance().getPlugin().getLogger()
+                        .log(Level.WARNING, "End-of-tick action threw an exception", throwable);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of queued actions.
+     *
+     * @return queue size
+     */
+    public static int size() {
+        return QUEUE.size();
+    }
+
+    /**
+     * Drops every queued action without running it.
+     */
+    public static void clear() {
+        QUEUE.clear();
+        fallbackScheduled = false;
+    }
+}
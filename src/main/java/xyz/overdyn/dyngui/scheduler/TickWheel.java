@@ -0,0 +1,333 @@
+package xyz.overdyn.dyngui.scheduler;
+
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+
+/**
+ * Plugin-wide hierarchical timing wheel driven by a single Bukkit repeating task.
+ *
+ * <p>The wheel has {@value #LEVELS} levels of {@value #SLOTS} buckets each. A task lands
+ * in the lowest level whose span covers its deadline and is cascaded down as the wheel
+ * turns, so scheduling and cancellation are O(1) and each tick only touches the tasks
+ * that are actually due.</p>
+ *
+ * <p>All bookkeeping happens on the main thread. Tasks scheduled from other threads are
+ * queued and placed at the start of the next tick; cancellation from other threads is
+ * lazy and only takes effect when the task would fire.</p>
+ *
+ * <p>Tasks returned by the wheel implement {@link BukkitTask}, but are not known to the
+ * Bukkit scheduler: cancel them through {@link BukkitTask#cancel()}, never by id.</p>
+ */
+public final class TickWheel {
+
+    private static final int LEVEL_BITS = 6;
+    private static final int SLOTS = 1 << LEVEL_BITS;
+    private static final int MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+
+    /** Farthest deadline the wheel can place directly, about 9.7 days of ticks. */
+    private static final long MAX_SPAN = 1L << (LEVEL_BITS * LEVELS);
+
+    private final JavaPlugin plugin;
+    private final WheelTask[][] buckets = new WheelTask[LEVELS][SLOTS];
+    private final Queue<WheelTask> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger ids = new AtomicInteger();
+
+    /** Current wheel tick, main thread only. */
+    private long tick;
+
+    /** Number of tasks currently linked into the wheel. */
+    private int size;
+
+    private @Nullable BukkitTask driver;
+
+    public TickWheel(@NotNull JavaPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Starts the single Bukkit task that drives the wheel. Does nothing if already running.
+     */
+    public void start() {
+        if (driver != null) return;
+        driver = Bukkit.getScheduler().runTaskTimer(plugin, this::advance, 1L, 1L);
+    }
+
+    /**
+     * Stops the driver task and cancels every scheduled task.
+     */
+    public void shutdown() {
+        if (driver != null) {
+            driver.cancel();
+            driver = null;
+        }
+
+        WheelTask queued;
+        while ((queued = pending.poll()) != null) {
+            queued.cancelled = true;
+        }
+
+        for (int level = 0; level < LEVELS; level++) {
+            for (int index = 0; index < SLOTS; index++) {
+                for (WheelTask task = buckets[level][index]; task != null; task = task.next) {
+                    task.cancelled = true;
+                    task.release();
+                }
+                buckets[level][index] = null;
+            }
+        }
+        size = 0;
+    }
+
+    /**
+     * Schedules a one-shot main thread task.
+     *
+     * @param runnable action to run
+     * @param delay    delay in ticks; values below one run on the next tick
+     * @return scheduled task
+     */
+    public @NotNull WheelTask schedule(@NotNull Runnable runnable, long delay) {
+        return schedule(runnable, delay, 0L, false, null);
+    }
+
+    /**
+     * Schedules a task on the wheel.
+     *
+     * @param runnable action to run
+     * @param delay    delay in ticks; values below one run on the next tick
+     * @param period   repeat period in ticks, or {@code 0} for a one-shot task
+     * @param async    whether the action is handed to the Bukkit async pool when due
+     * @param owner    collection the task is removed from once it is finished or cancelled
+     * @return scheduled task
+     */
+    public @NotNull WheelTask schedule(@NotNull Runnable runnable,
+                                       long delay,
+                                       long period,
+                                       boolean async,
+                                       @Nullable Collection<BukkitTask> owner) {
+        var task = new WheelTask(this, ids.decrementAndGet(), runnable, Math.max(0L, period), async, owner);
+        task.delay = Math.max(1L, delay);
+        if (owner != null) owner.add(task);
+
+        if (Bukkit.isPrimaryThread()) {
+            task.deadline = tick + task.delay;
+            place(task);
+        } else {
+            pending.add(task);
+        }
+        return task;
+    }
+
+    /**
+     * Returns the current wheel tick.
+     *
+     * @return ticks advanced since the wheel was created
+     */
+    public long currentTick() {
+        return tick;
+    }
+
+    /**
+     * Returns the number of tasks currently placed in the wheel.
+     *
+     * @return scheduled task count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Advances the wheel by one tick and runs every task that became due.
+     */
+    private void advance() {
+        WheelTask queued;
+        while ((queued = pending.poll()) != null) {
+            if (queued.cancelled) continue;
+            queued.deadline = tick + queued.delay;
+            place(queued);
+        }
+
+        tick++;
+
+        for (int level = 1; level < LEVELS; level++) {
+            int shift = level * LEVEL_BITS;
+            if ((tick & ((1L << shift) - 1)) != 0) break;
+            int index = (int) ((tick >>> shift) & MASK);
+            var task = detach(level, index);
+            while (task != null) {
+                var next = task.next;
+                task.next = null;
+                task.prev = null;
+                if (!task.cancelled) place(task);
+                else task.release();
+                task = next;
+            }
+        }
+
+        var task = detach(0, (int) (tick & MASK));
+        while (task != null) {
+            var next = task.next;
+            task.next = null;
+            task.prev = null;
+            fire(task);
+            task = next;
+        }
+    }
+
+    private void fire(@NotNull WheelTask task) {
+        if (task.cancelled) {
+            task.release();
+            return;
+        }
+
+        try {
+            if (task.async) {
+                Bukkit.getScheduler().runTaskAsynchronously(plugin, task.runnable);
+            } else {
+                task.runnable.run();
+            }
+        } catch (Throwable throwable) {
+            plugin.getLogger().log(Level.WARNING, "Task " + task.id + " threw an exception", throwable);
+        }
+
+        if (task.period > 0 && !task.cancelled) {
+            task.deadline = tick + task.period;
+            place(task);
+        } else {
+            task.cancelled = true;
+            task.release();
+        }
+    }
+
+    private void place(@NotNull WheelTask task) {
+        long delta = Math.max(0L, task.deadline - tick);
+        int level;
+        int index;
+
+        if (delta >= MAX_SPAN) {
+            level = LEVELS - 1;
+            int shift = level * LEVEL_BITS;
+            index = (int) (((tick >>> shift) - 1) & MASK);
+        } else {
+            level = 0;
+            while (delta >= (1L << ((level + 1) * LEVEL_BITS))) level++;
+            index = (int) ((task.deadline >>> (level * LEVEL_BITS)) & MASK);
+        }
+
+        task.level = level;
+        task.index = index;
+        task.prev = null;
+        task.next = buckets[level][index];
+        if (task.next != null) task.next.prev = task;
+        buckets[level][index] = task;
+        task.linked = true;
+        size++;
+    }
+
+    private @Nullable WheelTask detach(int level, int index) {
+        var head = buckets[level][index];
+        buckets[level][index] = null;
+        for (var task = head; task != null; task = task.next) {
+            task.linked = false;
+            size--;
+        }
+        return head;
+    }
+
+    private void unlink(@NotNull WheelTask task) {
+        if (!task.linked) return;
+
+        if (task.prev != null) task.prev.next = task.next;
+        else buckets[task.level][task.index] = task.next;
+        if (task.next != null) task.next.prev = task.prev;
+
+        task.prev = null;
+        task.next = null;
+        task.linked = false;
+        size--;
+    }
+
+    private void cancel(@NotNull WheelTask task) {
+        task.cancelled = true;
+        if (Bukkit.isPrimaryThread()) {
+            unlink(task);
+        }
+        task.release();
+    }
+
+    /**
+     * Task handle placed in the wheel.
+     */
+    public static final class WheelTask implements BukkitTask {
+
+        private final TickWheel wheel;
+        private final int id;
+        private final Runnable runnable;
+        private final long period;
+        private final boolean async;
+        private final @Nullable Collection<BukkitTask> owner;
+
+        private volatile boolean cancelled;
+        private long delay;
+        private long deadline;
+
+        private int level;
+        private int index;
+        private boolean linked;
+        private @Nullable WheelTask prev;
+        private @Nullable WheelTask next;
+
+        private WheelTask(@NotNull TickWheel wheel,
+                          int id,
+                          @NotNull Runnable runnable,
+                          long period,
+                          boolean async,
+                          @Nullable Collection<BukkitTask> owner) {
+            this.wheel = wheel;
+            this.id = id;
+            this.runnable = runnable;
+            this.period = period;
+            this.async = async;
+            this.owner = owner;
+        }
+
+        private void release() {
+            if (owner != null) owner.remove(this);
+        }
+
+        @Override
+        public int getTaskId() {
+            return id;
+        }
+
+        @Override
+        public @NotNull Plugin getOwner() {
+            return wheel.plugin;
+        }
+
+        @Override
+        public boolean isSync() {
+            return !async;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public void cancel() {
+            wheel.cancel(this);
+        }
+    }
+}
@@ -0,0 +1,412 @@
+package xyz.overdyn.dyngui.scheduler;
+
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+/**
+ * Plugin-wide driver for periodic GUI refreshes.
+ *
+ * <p>Every auto-updating GUI registers here instead of owning a repeating task. A new
+ * registration is phased onto the least loaded tick within its first period, so GUIs
+ * opened together do not refresh together. Each tick the coordinator runs due updates
+ * until its time budget is spent; whatever is left stays queued, in order, and runs
+ * first on the next tick.</p>
+ *
+ * <p>An update is rescheduled relative to the tick it was due, not the tick it ran, so
+ * a delayed update does not shift later ones and the period is kept on average.</p>
+ *
+ * <p>Adaptive registrations declare a minimum and a maximum period. The coordinator
+ * samples the server's average tick time once a second and maps it to a load between
+ * {@code 0} and {@code 1}: below the relaxed threshold adaptive updates run at their
+ * minimum period, above the saturated threshold at their maximum, and in between the
+ * period is interpolated. The new period applies from the next run. Servers without
+ * an average tick time report no load, so adaptive updates keep their minimum period
+ * there.</p>
+ *
+ * <p>The driver task only exists while something is registered. All methods must be
+ * called on the main thread.</p>
+ */
+public final class UpdateCoordinator {
+
+    /** Ticks between two load samples. */
+    private static final long SAMPLE_INTERVAL = 20L;
+
+    /** Weight of a new sample in the smoothed load. */
+    private static final double SMOOTHING = 0.5;
+
+    private final JavaPlugin plugin;
+    private final TickWheel wheel;
+
+    /** Updates by the tick they are due on. */
+    private final Map<Long, ArrayDeque<Handle>> schedule = new HashMap<>();
+
+    /** Updates that are due, oldest first, including carry-over from previous ticks. */
+    private final ArrayDeque<Handle> ready = new ArrayDeque<>();
+
+    private long budgetNanos = TimeUnit.MILLISECONDS.toNanos(2);
+    private double relaxedMspt = 35.0;
+    private double saturatedMspt = 50.0;
+
+    private double mspt;
+    private double load;
+    private long nextSample;
+    private @Nullable BukkitTask task;
+    private int size;
+
+    private long executedUpdates;
+    private long carriedUpdates;
+    private long lastTickNanos;
+
+    public UpdateCoordinator(@NotNull JavaPlugin plugin, @NotNull TickWheel wheel) {
+        this.plugin = plugin;
+        this.wheel = wheel;
+    }
+
+    /**
+     * Sets the time the coordinator may spend per tick. At least one update runs per tick.
+     *
+     * @param budget budget
+     * @param unit   budget unit
+     * @return this coordinator
+     */
+    public @NotNull UpdateCoordinator budget(long budget, @NotNull TimeUnit unit) {
+        this.budgetNanos = Math.max(0L, unit.toNanos(budget));
+        return this;
+    }
+
+    /**
+     * Sets the average tick times between which adaptive updates are stretched.
+     *
+     * @param relaxedMspt   tick time in milliseconds at and below which minimum periods apply
+     * @param saturatedMspt tick time in milliseconds at and above which maximum periods apply
+     * @return this coordinator
+     */
+    public @NotNull UpdateCoordinator loadThresholds(double relaxedMspt, double saturatedMspt) {
+        if (!(relaxedMspt >= 0) || !(saturatedMspt > relaxedMspt)) {
+            throw new IllegalArgumentException("Thresholds must satisfy 0 <= relaxed < saturated");
+        }
+        this.relaxedMspt = relaxedMspt;
+        this.saturatedMspt = saturatedMspt;
+        return this;
+    }
+
+    /**
+     * Registers a periodic update.
+     *
+     * <p>The first run lands on the least loaded tick among the next {@code period} ticks.</p>
+     *
+     * @param update action to run
+     * @param period period in ticks, at least one
+     * @return handle used to change the period or cancel the update
+     */
+    public @NotNull Handle register(@NotNull Runnable update, long period) {
+        return register(update, period, period);
+    }
+
+    /**
+     * Registers an adaptive periodic update.
+     *
+     * <p>The update runs every {@code minPeriod} ticks while the server keeps up and is
+     * stretched towards {@code maxPeriod} as the average tick time rises.</p>
+     *
+     * @param update    action to run
+     * @param minPeriod period under no load, at least one
+     * @param maxPeriod period under full load, at least {@code minPeriod}
+     * @return handle used to change the periods or cancel the update
+     */
+    public @NotNull Handle register(@NotNull Runnable update, long minPeriod, long maxPeriod) {
+        var handle = new Handle(this, update);
+        handle.setPeriod(minPeriod, maxPeriod);
+        size++;
+        place(handle, quietestTick(handle.effectivePeriod()));
+        ensureRunning();
+        return handle;
+    }
+
+    /**
+     * Returns the smoothed server load used for adaptive periods.
+     *
+     * @return load between {@code 0} (relaxed) and {@code 1} (saturated)
+     */
+    public double getLoad() {
+        return load;
+    }
+
+    /**
+     * Returns the average tick time seen at the last load sample.
+     *
+     * @return milliseconds per tick, or {@code 0} if the server does not report it
+     */
+    public double getMspt() {
+        return mspt;
+    }
+
+    /**
+     * Returns the number of registered updates.
+     *
+     * @return registration count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of due updates waiting for budget.
+     *
+     * @return backlog size
+     */
+    public int backlog() {
+        return ready.size();
+    }
+
+    /**
+     * Returns the total number of updates run.
+     *
+     * @return executed update count
+     */
+    public long getExecutedUpdates() {
+        return executedUpdates;
+    }
+
+    /**
+     * Returns the total number of times an update was pushed to a later tick by the budget.
+     *
+     * @return carried update count
+     */
+    public long getCarriedUpdates() {
+        return carriedUpdates;
+    }
+
+    /**
+     * Returns the time spent running updates on the last tick.
+     *
+     * @return nanoseconds
+     */
+    public long getLastTickNanos() {
+        return lastTickNanos;
+    }
+
+    /**
+     * Cancels every registered update and stops the driver task.
+     */
+    public void shutdown() {
+        schedule.values().forEach(queue -> queue.forEach(handle -> handle.cancelled = true));
+        ready.forEach(handle -> handle.cancelled = true);
+        schedule.clear();
+        ready.clear();
+        size = 0;
+        stopDriver();
+    }
+
+    private long quietestTick(long period) {
+        long now = wheel.currentTick();
+        long best = now + 1;
+        int bestLoad = Integer.MAX_VALUE;
+        for (long tick = now + 1; tick <= now + period; tick++) {
+            var queue = schedule.get(tick);
+            int load = queue == null ? 0 : queue.size();
+            if (load < bestLoad) {
+                best = tick;
+                bestLoad = load;
+                if (load == 0) break;
+            }
+        }
+        return best;
+    }
+
+    private void place(@NotNull Handle handle, long tick) {
+        handle.due = tick;
+        schedule.computeIfAbsent(tick, key -> new ArrayDeque<>()).add(handle);
+    }
+
+    private void ensureRunning() {
+        if (task == null) {
+            task = wheel.schedule(this::tick, 1L, 1L, false, null);
+        }
+    }
+
+    private void stopDriver() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        // sample again as soon as the driver restarts
+        nextSample = 0L;
+    }
+
+    private void tick() {
+        long now = wheel.currentTick();
+        if (now >= nextSample) {
+            sampleLoad();
+            nextSample = now + SAMPLE_INTERVAL;
+        }
+
+        var due = schedule.remove(now);
+        if (due != null) ready.addAll(due);
+
+        long start = System.nanoTime();
+        long deadline = start + budgetNanos;
+        Handle handle;
+        while ((handle = ready.poll()) != null) {
+            if (handle.cancelled) continue;
+
+            try {
+                handle.update.run();
+            } catch (Throwable throwable) {
+                plugin.getLogger().log(Level.WARNING, "GUI update threw an exception", throwable);
+            }
+            executedUpdates++;
+
+            if (!handle.cancelled) {
+                place(handle, Math.max(handle.due + handle.effectivePeriod(), now + 1));
+            }
+            if (System.nanoTime() >= deadline) break;
+        }
+
+        carriedUpdates += ready.size();
+        lastTickNanos = System.nanoTime() - start;
+
+        if (size == 0 && ready.isEmpty()) stopDriver();
+    }
+
+    /**
+     * Reads Paper's average tick time. Servers without it count as unloaded: the wall
+     * time between ticks is about 50 ms on a healthy server as well, so it cannot tell
+     * how busy a tick was.
+     */
+    private void sampleLoad() {
+        double sample;
+        try {
+            sample = Bukkit.getAverageTickTime();
+        } catch (RuntimeException | LinkageError e) {
+            sample = 0.0;
+        }
+
+        mspt = sample;
+        double target = Math.min(1.0, Math.max(0.0, (sample - relaxedMspt) / (saturatedMspt - relaxedMspt)));
+        load += (target - load) * SMOOTHING;
+        if (load < 0.01) load = 0.0;
+        if (load > 0.99) load = 1.0;
+    }
+
+    private void release(@NotNull Handle handle) {
+        size--;
+        // a cancelled handle is dropped lazily when its tick comes up
+        if (size == 0) {
+            schedule.clear();
+            ready.clear();
+            stopDriver();
+        }
+    }
+
+    /**
+     * Registration of a periodic update.
+     */
+    public static final class Handle {
+
+        private final UpdateCoordinator coordinator;
+        private final Runnable update;
+        private long minPeriod;
+        private long maxPeriod;
+        private long due;
+        private boolean cancelled;
+
+        private Handle(@NotNull UpdateCoordinator coordinator, @NotNull Runnable update) {
+            this.coordinator = coordinator;
+            this.update = update;
+        }
+
+        /**
+         * Returns the period under no load.
+         *
+         * @return period in ticks
+         */
+        public long getPeriod() {
+            return minPeriod;
+        }
+
+        /**
+         * Returns the period under full load. Equal to {@link #getPeriod()} unless adaptive.
+         *
+         * @return period in ticks
+         */
+        public long getMaxPeriod() {
+            return maxPeriod;
+        }
+
+        /**
+         * Returns whether the period stretches with server load.
+         *
+         * @return {@code true} if the maximum period exceeds the minimum
+         */
+        public boolean isAdaptive() {
+            return maxPeriod > minPeriod;
+        }
+
+        /**
+         * Returns the period used for the next run at the current load.
+         *
+         * @return period in ticks
+         */
+        public long effectivePeriod() {
+            if (maxPeriod == minPeriod) return minPeriod;
+            return minPeriod + Math.round((maxPeriod - minPeriod) * coordinator.load);
+        }
+
+        /**
+         * Returns the current refresh rate at the current load.
+         *
+         * @return updates per second at 20 ticks per second
+         */
+        public double effectiveRate() {
+            return 20.0 / effectivePeriod();
+        }
+
+        /**
+         * Changes to a fixed period, taking effect after the next run.
+         *
+         * @param period period in ticks, at least one
+         */
+        public void setPeriod(long period) {
+            setPeriod(period, period);
+        }
+
+        /**
+         * Changes the adaptive period range, taking effect after the next run.
+         *
+         * @param minPeriod period under no load, at least one
+         * @param maxPeriod period under full load, raised to {@code minPeriod} if lower
+         */
+        public void setPeriod(long minPeriod, long maxPeriod) {
+            this.minPeriod = Math.max(1L, minPeriod);
+            this.maxPeriod = Math.max(this.minPeriod, maxPeriod);
+        }
+
+        /**
+         * Returns whether this update was cancelled.
+         *
+         * @return {@code true} if cancelled
+         */
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        /**
+         * Stops this update. Does nothing if already cancelled.
+         */
+        public void cancel() {
+            if (cancelled) return;
+            cancelled = true;
+            coordinator.release(this);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package xyz.overdyn.dyngui.tools;
+
+import org.bukkit.entity.Player;
+
+/**
+ * Utility for pushing the full contents of a player's open container in one packet.
+ *
+ * <p>Uses the same NMS channel as {@link InventoryTitleUpdater}, via {@link NmsAccess}: the open
+ * menu is asked to send all of its data to the client, which emits a single
+ * container-content packet and re-synchronizes the server's remote slot copies, so
+ * the per-slot change packets of the next tick are not sent anymore.</p>
+ *
+ * <p>If the reflective call is not available, {@link Player#updateInventory()} is used,
+ * which performs the same resync through the Bukkit API.</p>
+ */
+public class InventoryContentSender {
+
+    /**
+     * Sends the full contents of the player's currently open container.
+     *
+     * @param player the viewer
+     * @return true if the content packet was sent through NMS, false if the Bukkit fallback was used
+     */
+    public static boolean sendContents(Player player) {
+        if (player == null || !player.isOnline()) {
+            return false;
+        }
+
+        var access = NmsAccess.get();
+        if (access.canSendContents()) {
+            try {
+                access.sendContents(player);
+                return true;
+            } catch (Throwable ignored) {
+            }
+        }
+
+        player.updateInventory();
+        return false;
+    }
+}
@@ -0,0 +1,310 @@
+package xyz.overdyn.dyngui.tools;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * Version-resolved access to the NMS members used for inventory packets.
+ *
+ * <p>All classes, fields and methods are looked up once, when the access layer is
+ * created at bootstrap, and stored as {@link MethodHandle}s adapted to generic
+ * signatures. A title update is then a handful of direct handle invocations.</p>
+ *
+ * <p>Members that cannot be resolved on the running server leave the corresponding
+ * capability disabled instead of failing; callers check the capability flags and use
+ * their Bukkit fallback.</p>
+ */
+public final class NmsAccess {
+
+    private static final MethodType GETTER = MethodType.methodType(Object.class, Object.class);
+
+    private static volatile NmsAccess instance;
+
+    private final @NotNull ServerVersion version;
+
+    private final @Nullable MethodHandle getHandle;
+    private final @Nullable MethodHandle containerMenu;
+    private final @Nullable MethodHandle containerId;
+    private final @Nullable MethodHandle menuType;
+    private final @Nullable MethodHandle connection;
+    private final @Nullable MethodHandle send;
+    private final @Nullable MethodHandle openScreenPacket;
+    private final @Nullable MethodHandle sendAllData;
+    private final @Nullable MethodHandle asVanilla;
+    private final @Nullable MethodHandle literal;
+    private final @Nullable MethodHandle stateId;
+    private final @Nullable MethodHandle asNmsCopy;
+    private final @Nullable MethodHandle setSlotPacket;
+
+    private final boolean titleUpdate;
+    private final boolean containerContent;
+    private final boolean adventureComponents;
+    private final boolean slotUpdate;
+
+    private NmsAccess(@NotNull ServerVersion version) {
+        this.version = version;
+
+        var lookup = MethodHandles.publicLookup();
+        String craftPackage = Bukkit.getServer().getClass().getPackage().getName();
+
+        Method handleMethod = method(type(craftPackage + ".entity.CraftPlayer"), "getHandle");
+        this.getHandle = unreflect(lookup, handleMethod, GETTER);
+
+        Class<?> menuClass = type("net.minecraft.world.inventory.AbstractContainerMenu");
+        Class<?> packetClass = type("net.minecraft.network.protocol.Packet");
+        Class<?> componentClass = type("net.minecraft.network.chat.Component");
+        Class<?> playerClass = handleMethod != null ? handleMethod.getReturnType() : null;
+
+        this.containerMenu = getter(lookup, field(playerClass, "containerMenu"), GETTER);
+        this.containerId = getter(lookup, field(menuClass, "containerId"), MethodType.methodType(int.class, Object.class));
+        Method typeMethod = method(menuClass, "getType");
+        this.menuType = unreflect(lookup, typeMethod, GETTER);
+        this.sendAllData = unreflect(lookup, method(menuClass, "sendAllDataToRemote"),
+                MethodType.methodType(void.class, Object.class));
+
+        Field connectionField = field(playerClass, "connection");
+        this.connection = getter(lookup, connectionField, GETTER);
+        this.send = connectionField != null && packetClass != null
+                ? unreflect(lookup, method(connectionField.getType(), "send", packetClass),
+                MethodType.methodType(void.class, Object.class, Object.class))
+                : null;
+
+        MethodHandle packet = null;
+        Class<?> openScreenClass = type("net.minecraft.network.protocol.game.ClientboundOpenScreenPacket");
+        if (openScreenClass != null && typeMethod != null && componentClass != null) {
+            try {
+                packet = lookup.findConstructor(openScreenClass,
+                                MethodType.methodType(void.class, int.class, typeMethod.getReturnType(), componentClass))
+                        .asType(MethodType.methodType(Object.class, int.class, Object.class, Object.class));
+            } catch (ReflectiveOperationException ignored) {}
+        }
+        this.openScreenPacket = packet;
+
+        this.stateId = unreflect(lookup, method(menuClass, "getStateId"), MethodType.methodType(int.class, Object.class));
+        Method copyMethod = method(type(craftPackage + ".inventory.CraftItemStack"), "asNMSCopy", ItemStack.class);
+        this.asNmsCopy = unreflect(lookup, copyMethod, GETTER);
+
+        MethodHandle slotPacket = null;
+        Class<?> setSlotClass = type("net.minecraft.network.protocol.game.ClientboundContainerSetSlotPacket");
+        if (setSlotClass != null && copyMethod != null) {
+            try {
+                slotPacket = lookup.findConstructor(setSlotClass,
+                                MethodType.methodType(void.class, int.class, int.class, int.class, copyMethod.getReturnType()))
+                        .asType(MethodType.methodType(Object.class, int.class, int.class, int.class, Object.class));
+            } catch (ReflectiveOperationException ignored) {}
+        }
+        this.setSlotPacket = slotPacket;
+
+        Class<?> paperAdventure = type("io.papermc.paper.adventure.PaperAdventure");
+        this.asVanilla = unreflect(lookup, method(paperAdventure, "asVanilla", Component.class), GETTER);
+        this.literal = unreflect(lookup, method(componentClass, "literal", String.class),
+                MethodType.methodType(Object.class, String.class));
+
+        this.adventureComponents = asVanilla != null;
+        this.containerContent = getHandle != null && containerMenu != null && sendAllData != null;
+        this.slotUpdate = getHandle != null && containerMenu != null && containerId != null && stateId != null
+                && connection != null && send != null && asNmsCopy != null && setSlotPacket != null;
+        this.titleUpdate = version.isSupported()
+                && getHandle != null && containerMenu != null && containerId != null && menuType != null
+                && connection != null && send != null && openScreenPacket != null
+                && (asVanilla != null || literal != null);
+    }
+
+    /**
+     * Resolves the access layer for the running server. Called once at bootstrap;
+     * later calls return the existing instance.
+     *
+     * @return access layer
+     */
+    public static synchronized @NotNull NmsAccess init() {
+        if (instance == null) instance = new NmsAccess(detectServerVersion());
+        return instance;
+    }
+
+    /**
+     * Returns the access layer, resolving it on first use if bootstrap did not.
+     *
+     * @return access layer
+     */
+    public static @NotNull NmsAccess get() {
+        var current = instance;
+        return current != null ? current : init();
+    }
+
+    /**
+     * Returns the detected server version.
+     *
+     * @return server version
+     */
+    public @NotNull ServerVersion getVersion() {
+        return version;
+    }
+
+    /**
+     * Whether open-screen packets can be sent to change an inventory title.
+     */
+    public boolean canUpdateTitle() {
+        return titleUpdate;
+    }
+
+    /**
+     * Whether the full contents of an open container can be pushed in one packet.
+     */
+    public boolean canSendContents() {
+        return containerContent;
+    }
+
+    /**
+     * Whether a single slot of an open container can be shown differently to one viewer.
+     */
+    public boolean canSendSlots() {
+        return slotUpdate;
+    }
+
+    /**
+     * Whether Adventure components are converted natively, keeping colors and styles.
+     * Without it titles are sent as plain text.
+     */
+    public boolean hasAdventureComponents() {
+        return adventureComponents;
+    }
+
+    /**
+     * Sends an open-screen packet re-titling the player's open container.
+     *
+     * @param player viewer
+     * @param title  new title
+     * @throws Throwable if the packet could not be built or sent
+     */
+    public void sendTitle(@NotNull Player player, @NotNull Component title) throws Throwable {
+        if (!titleUpdate) throw new UnsupportedOperationException("Title updates are not supported on " + version);
+
+        Object serverPlayer = getHandle.invokeExact((Object) player);
+        Object menu = containerMenu.invokeExact(serverPlayer);
+        int id = (int) containerId.invokeExact(menu);
+        Object type = menuType.invokeExact(menu);
+        Object packet = openScreenPacket.invokeExact(id, type, toVanilla(title));
+        Object conn = connection.invokeExact(serverPlayer);
+        send.invokeExact(conn, packet);
+    }
+
+    /**
+     * Pushes the full contents of the player's open container in one packet.
+     *
+     * @param player viewer
+     * @throws Throwable if the menu could not be synchronized
+     */
+    public void sendContents(@NotNull Player player) throws Throwable {
+        if (!containerContent) throw new UnsupportedOperationException("Content packets are not supported on " + version);
+
+        Object serverPlayer = getHandle.invokeExact((Object) player);
+        Object menu = containerMenu.invokeExact(serverPlayer);
+        sendAllData.invokeExact(menu);
+    }
+
+    /**
+     * Sends a set-slot packet for the player's open container without changing the
+     * server-side inventory.
+     *
+     * <p>The client shows the stack until the server synchronizes that slot again.</p>
+     *
+     * @param player viewer
+     * @param slot   raw slot of the open container
+     * @param stack  stack to show, or {@code null} for an empty slot
+     * @throws Throwable if the packet could not be built or sent
+     */
+    public void sendSlot(@NotNull Player player, int slot, @Nullable ItemStack stack) throws Throwable {
+        if (!slotUpdate) throw new UnsupportedOperationException("Slot packets are not supported on " + version);
+
+        Object serverPlayer = getHandle.invokeExact((Object) player);
+        Object menu = containerMenu.invokeExact(serverPlayer);
+        int id = (int) containerId.invokeExact(menu);
+        int state = (int) stateId.invokeExact(menu);
+        Object item = asNmsCopy.invokeExact((Object) stack);
+        Object packet = setSlotPacket.invokeExact(id, state, slot, item);
+        Object conn = connection.invokeExact(serverPlayer);
+        send.invokeExact(conn, packet);
+    }
+
+    private Object toVanilla(@NotNull Component component) throws Throwable {
+        if (asVanilla != null) return asVanilla.invokeExact((Object) component);
+        return literal.invokeExact(PlainTextComponentSerializer.plainText().serialize(component));
+    }
+
+    private static ServerVersion detectServerVersion() {
+        try {
+            String packageName = Bukkit.getServer().getClass().getPackage().getName();
+            String nmsVersion = packageName.substring(packageName.lastIndexOf('.') + 1);
+
+            if (nmsVersion.startsWith("v1_")) {
+                ServerVersion version = ServerVersion.fromNmsVersion(nmsVersion);
+                if (!version.isError()) {
+                    return version;
+                }
+            }
+
+            return ServerVersion.fromBukkitVersion(Bukkit.getBukkitVersion());
+        } catch (Exception e) {
+            return ServerVersion.ERROR;
+        }
+    }
+
+    private static @Nullable Class<?> type(@NotNull String name) {
+        try {
+            return Class.forName(name);
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+    }
+
+    private static @Nullable Method method(@Nullable Class<?> owner, @NotNull String name, Class<?>... parameters) {
+        if (owner == null) return null;
+        try {
+            return owner.getMethod(name, parameters);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static @Nullable Field field(@Nullable Class<?> owner, @NotNull String name) {
+        if (owner == null) return null;
+        try {
+            return owner.getField(name);
+        } catch (NoSuchFieldException e) {
+            return null;
+        }
+    }
+
+    private static @Nullable MethodHandle unreflect(@NotNull MethodHandles.Lookup lookup,
+                                                   @Nullable Method method,
+                                                   @NotNull MethodType type) {
+        if (method == null) return null;
+        try {
+            return lookup.unreflect(method).asType(type);
+        } catch (IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static @Nullable MethodHandle getter(@NotNull MethodHandles.Lookup lookup,
+                                                @Nullable Field field,
+                                                @NotNull MethodType type) {
+        if (field == null) return null;
+        try {
+            return lookup.unreflectGetter(field).asType(type);
+        } catch (IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+}